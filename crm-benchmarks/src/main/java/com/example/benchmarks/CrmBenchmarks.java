@@ -0,0 +1,24 @@
+package com.example.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// java -jar crm-benchmarks/target/benchmarks.jar [JMH seçenekleri, ör. "Jwt.*" -f 1]
+// Her koşu GC profiler ile (gc.alloc.rate.norm = işlem başına ayrılan byte) çalışır ve
+// sonuçları jmh-result.json'a yazar; değişiklik öncesi/sonrası dosyalar karşılaştırılır.
+public final class CrmBenchmarks {
+    private CrmBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.benchmarks;
+
+import com.example.ticket_service.entity.TicketViewEntity;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+// Benchmark girdileri: sabit anahtar, sabit tohumlu rastgele veri, sabit tarih.
+// Aynı sürümde her koşu aynı girdiyi görür (sonuçlar koşular arasında karşılaştırılabilir).
+final class Fixtures {
+    static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+    static final String ISSUER = "crm-user-service";
+    static final long SEED = 42L;
+    static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private Fixtures() {
+    }
+
+    // user-service'in ürettiği access token ile aynı claim yapısı
+    static String accessToken(String role, Long personId) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setClaims(Map.of("userId", 7L, "role", role, "personId", personId))
+                .setSubject("ayse.yilmaz@example.com")
+                .setIssuer(ISSUER)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 24 * 3600 * 1000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    static List<TicketViewEntity> ticketViews(int count) {
+        Random random = new Random(SEED);
+        String[] statuses = {"OPEN", "IN_PROGRESS", "TRANSFERRED", "DONE"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH"};
+        List<TicketViewEntity> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = 1_000_000L - i;
+            boolean employee = random.nextBoolean();
+            rows.add(TicketViewEntity.builder()
+                    .ticketId(id)
+                    .customerEmail(employee ? null : "musteri" + id + "@example.com")
+                    .customerName(employee ? null : "Müşteri")
+                    .customerSurname(employee ? null : "Şahin")
+                    .customerPhone(employee ? null : "0555" + (1_000_000 + random.nextInt(9_000_000)))
+                    .creatorPersonId(employee ? (long) random.nextInt(500) : null)
+                    .creatorPersonEmail(employee ? "calisan@example.com" : null)
+                    .creatorPersonName(employee ? "Çağla" : null)
+                    .creatorPersonSurname(employee ? "Öztürk" : null)
+                    .issue("Fatura ekranında ödeme adımı zaman aşımına düşüyor #" + id)
+                    .priority(priorities[random.nextInt(priorities.length)])
+                    .active(true)
+                    .createdDate(BASE_DATE.minusMinutes(i))
+                    .employee(employee)
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .departmentId((long) (1 + random.nextInt(8)))
+                    .departmentName("Destek")
+                    .assigneePersonId((long) random.nextInt(500))
+                    .assigneeEmail("destek@example.com")
+                    .assigneeName("İsmail")
+                    .assigneeSurname("Güneş")
+                    .degraded(false)
+                    .build());
+        }
+        return rows;
+    }
+
+    // Repository arayüzleri için el yapımı stub: verilen metotlar cevaplanır, diğerleri hata verir.
+    // Mockito yerine düz Proxy; ölçüme kayıt/doğrulama yükü eklenmez.
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+}
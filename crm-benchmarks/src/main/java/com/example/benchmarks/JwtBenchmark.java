@@ -0,0 +1,67 @@
+package com.example.benchmarks;
+
+import com.example.ticket_service.security.jwt.JwtPrincipal;
+import com.example.ticket_service.security.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Her istekte çalışan JWT doğrulama: ticket-service ve person JwtUtil.parse + extractRoles,
+// ticket-service'te doğrulanmış token önbelleğinden okuma (hot token)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    private com.example.ticket_service.security.jwt.JwtUtil ticketJwt;
+    private com.example.person.security.jwt.JwtUtil personJwt;
+    private VerifiedTokenCache ticketTokens;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        ticketJwt = new com.example.ticket_service.security.jwt.JwtUtil(Fixtures.SECRET, Fixtures.ISSUER, "role");
+        personJwt = new com.example.person.security.jwt.JwtUtil(Fixtures.SECRET, Fixtures.ISSUER, "role");
+        token = Fixtures.accessToken("PERSON", 15L);
+        claims = ticketJwt.parse(token);
+        ticketTokens = new VerifiedTokenCache(ticketJwt, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5));
+        ticketTokens.authenticate(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal ticketAuthenticateCached() {
+        return ticketTokens.authenticate(token);
+    }
+
+    @Benchmark
+    public Claims ticketParse() {
+        return ticketJwt.parse(token);
+    }
+
+    @Benchmark
+    public List<String> ticketExtractRoles() {
+        return ticketJwt.extractRoles(claims);
+    }
+
+    @Benchmark
+    public List<String> ticketParseAndExtractRoles() {
+        return ticketJwt.extractRoles(ticketJwt.parse(token));
+    }
+
+    @Benchmark
+    public Claims personParse() {
+        return personJwt.parse(token);
+    }
+
+    @Benchmark
+    public List<String> personParseAndExtractRoles() {
+        return personJwt.extractRoles(personJwt.parse(token));
+    }
+}
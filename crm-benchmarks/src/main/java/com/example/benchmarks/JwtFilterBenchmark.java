@@ -0,0 +1,57 @@
+package com.example.benchmarks;
+
+import com.example.ticket_service.security.filter.JwtFilter;
+import com.example.ticket_service.security.jwt.JwtUtil;
+import com.example.ticket_service.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// ticket-service JwtFilter: korumalı uç (doğrulanmış token önbelleği + SecurityContext) ve filtre dışı bırakılan public uç.
+// Not: log seviyesi logback.xml ile WARN; filtredeki INFO logların konsol maliyeti ölçüme girmez.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class JwtFilterBenchmark {
+    private JwtFilter filter;
+    private MockHttpServletRequest securedRequest;
+    private MockHttpServletRequest publicRequest;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(Fixtures.SECRET, Fixtures.ISSUER, "role");
+        filter = new JwtFilter(new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5)));
+
+        securedRequest = new MockHttpServletRequest("GET", "/api/departments/3/tickets");
+        securedRequest.addHeader("Authorization", "Bearer " + Fixtures.accessToken("PERSON", 15L));
+
+        publicRequest = new MockHttpServletRequest("POST", "/api/tickets/public");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object securedRequest() throws Exception {
+        try {
+            filter.doFilter(securedRequest, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public void publicRequest() throws Exception {
+        filter.doFilter(publicRequest, response, chain);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.benchmarks;
+
+import com.example.user_service.dto.request.LoginRequest;
+import com.example.user_service.dto.response.UserResponse;
+import com.example.user_service.entity.UserEntity;
+import com.example.user_service.repository.RefreshTokenRepository;
+import com.example.user_service.repository.UserRepository;
+import com.example.user_service.security.jwt.JwtUtil;
+import com.example.user_service.security.jwt.RefreshTokenStore;
+import com.example.user_service.security.password.PasswordHasher;
+import com.example.user_service.service.impl.UserServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// UserServiceImpl.login: BCrypt doğrulama (tek thread'lik PasswordHasher havuzunda) + access/refresh token üretimi.
+// Repository'ler stub'dır.
+// BCrypt maliyeti SecurityConfig ile aynı (varsayılan strength 10); tek çağrı ~ms mertebesinde.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class LoginBenchmark {
+    private static final String PASSWORD = "Sifre.12345";
+
+    private UserServiceImpl userService;
+    private LoginRequest request;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        UserEntity user = UserEntity.builder()
+                .id(7L)
+                .email("ayse.yilmaz@example.com")
+                .passwordHash(encoder.encode(PASSWORD))
+                .role("PERSON")
+                .personId(15L)
+                .build();
+        UserRepository users = Fixtures.stub(UserRepository.class, Map.of(
+                "findByEmail", args -> Optional.of(user),
+                "save", args -> args[0]));
+
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", Fixtures.SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", Fixtures.ISSUER);
+        ReflectionTestUtils.setField(jwtUtil, "accessTtlSeconds", 3600L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTtlSeconds", 604800L);
+
+        PasswordHasher hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 10, 1, 64, Duration.ofSeconds(10), 1);
+        RefreshTokenRepository refreshTokens = Fixtures.stub(RefreshTokenRepository.class, Map.of(
+                "save", args -> args[0]));
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(refreshTokens, jwtUtil, new SimpleMeterRegistry(), 10_000);
+        userService = new UserServiceImpl(hasher, users, jwtUtil, refreshTokenStore, null);
+        request = new LoginRequest();
+        request.setEmail(user.getEmail());
+        request.setPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public UserResponse login() {
+        return userService.login(request);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.benchmarks;
+
+import com.example.ticket_service.dto.response.TicketPage;
+import com.example.ticket_service.dto.response.TicketResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Liste cevabının JSON'a yazılması (Spring Boot varsayılanlarına yakın ObjectMapper: JavaTimeModule, ISO tarih)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TicketJsonBenchmark {
+    @Param({"50", "200"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private TicketPage page;
+    private List<TicketResponse> items;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        items = Fixtures.ticketViews(size).stream()
+                .map(v -> TicketResponse.builder()
+                        .id(v.getTicketId())
+                        .customerEmail(v.getCustomerEmail())
+                        .customerName(v.getCustomerName())
+                        .customerSurname(v.getCustomerSurname())
+                        .customerPhone(v.getCustomerPhone())
+                        .creatorPersonEmail(v.getCreatorPersonEmail())
+                        .creatorPersonName(v.getCreatorPersonName())
+                        .creatorPersonSurname(v.getCreatorPersonSurname())
+                        .issue(v.getIssue())
+                        .priority(v.getPriority())
+                        .active(v.getActive())
+                        .createdDate(v.getCreatedDate())
+                        .status(v.getStatus())
+                        .departmentId(v.getDepartmentId())
+                        .departmentName(v.getDepartmentName())
+                        .assigneePersonId(v.getAssigneePersonId())
+                        .employee(v.getEmployee())
+                        .assigneeEmail(v.getAssigneeEmail())
+                        .assigneeName(v.getAssigneeName())
+                        .assigneeSurname(v.getAssigneeSurname())
+                        .degraded(v.getDegraded())
+                        .build())
+                .toList();
+        page = TicketPage.builder().items(items).nextCursor("MjAyNS0wMS0wMVQwOTowMHwxMDAwMDAw").build();
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return mapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+}
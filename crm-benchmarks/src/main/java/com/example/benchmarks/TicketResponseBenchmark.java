@@ -0,0 +1,42 @@
+package com.example.benchmarks;
+
+import com.example.ticket_service.dto.response.TicketPage;
+import com.example.ticket_service.entity.TicketViewEntity;
+import com.example.ticket_service.repository.TicketViewRepository;
+import com.example.ticket_service.service.impl.TicketImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Liste uçlarının sunucu tarafı: TicketImpl okuma modeli satırlarını TicketResponse sayfasına çevirir
+// (toPage + toResponse). Repository stub'dır, DB ve person-service çağrısı yoktur.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TicketResponseBenchmark {
+    @Param({"50", "200"})
+    private int size;
+
+    private TicketImpl ticketService;
+
+    @Setup
+    public void setUp() {
+        // Keyset sayfası limit + 1 satır okur
+        List<TicketViewEntity> rows = Fixtures.ticketViews(size + 1);
+        TicketViewRepository views = Fixtures.stub(TicketViewRepository.class,
+                Map.of("findPage", args -> rows));
+        ticketService = new TicketImpl(null, null, null, null, views, null, null, null, null);
+        ReflectionTestUtils.setField(ticketService, "maxPageSize", 200);
+    }
+
+    @Benchmark
+    public TicketPage listAllTickets() {
+        return ticketService.listAllTickets(null, size);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.common.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import java.util.function.Function;
+
+// @Timed(SERVICE_TIMER) ile işaretli servis sınıflarının her public metodu için süre ölçümü.
+// Etiketler: class, method, exception ve ondan türetilen outcome (SUCCESS | ERROR);
+// service etiketi tüm metriklere application.yml'deki management.metrics.tags ile eklenir.
+@AutoConfiguration
+public class MetricsConfig {
+    public static final String SERVICE_TIMER = "crm.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        Function<ProceedingJoinPoint, Iterable<Tag>> tags = pjp -> Tags.of(
+                "class", pjp.getStaticPart().getSignature().getDeclaringType().getSimpleName(),
+                "method", pjp.getStaticPart().getSignature().getName());
+        return new TimedAspect(registry, tags);
+    }
+
+    // http.server.requests / http.client.requests ile aynı outcome etiketi servis metriklerinde de olsun
+    @Bean
+    public MeterFilter serviceOutcomeTag() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!SERVICE_TIMER.equals(id.getName())) {
+                    return id;
+                }
+                String exception = id.getTag("exception");
+                boolean success = exception == null || "none".equals(exception);
+                return id.withTag(Tag.of("outcome", success ? "SUCCESS" : "ERROR"));
+            }
+        };
+    }
+}
@@ -5,18 +5,37 @@ import { Link, useNavigate } from "react-router-dom";
 const AdminPanel: React.FC = () => {
     const [tickets, setTickets] = useState<AdminTicket[]>([]);
     const [tErr, setTErr] = useState<string>("");
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [menuOpen, setMenuOpen] = useState(false);
     const [tab, setTab] = useState<"customer" | "employee" | "closed">("customer");
 
     const navigate = useNavigate();
 
-    // Ticketları çek
+    // Ticketları çek (ilk sayfa; sonrakiler "Daha fazla yükle" ile)
     useEffect(() => {
         getAdminTickets()
-            .then(setTickets)
+            .then((page) => {
+                setTickets(page.items);
+                setNextCursor(page.nextCursor);
+            })
             .catch((e) => setTErr(String(e?.message ?? e)));
     }, []);
 
+    const loadMore = async () => {
+        if (!nextCursor) return;
+        setLoadingMore(true);
+        try {
+            const page = await getAdminTickets(nextCursor);
+            setTickets((prev) => [...prev, ...page.items]);
+            setNextCursor(page.nextCursor);
+        } catch (e: any) {
+            setTErr(String(e?.message ?? e));
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     // ✅ Çıkış fonksiyonu
     const handleLogout = () => {
         localStorage.removeItem("token");
@@ -110,6 +129,7 @@ const AdminPanel: React.FC = () => {
                     <div className="bg-indigo-500/10 border border-white/10 p-4 rounded-xl text-center">
                         <div className="text-2xl font-bold text-indigo-400">
                             {tickets.length}
+                            {nextCursor ? "+" : ""}
                         </div>
                         <div className="text-sm text-gray-400">Toplam</div>
                     </div>
@@ -205,6 +225,18 @@ const AdminPanel: React.FC = () => {
                             <TicketTable tickets={closedEmployeeTickets} priorityClass={priorityClass} statusClass={statusClass} isClosed />
                         </>
                     )}
+
+                    {nextCursor && (
+                        <div className="flex justify-center mt-6">
+                            <button
+                                onClick={loadMore}
+                                disabled={loadingMore}
+                                className="px-4 py-2 rounded-lg bg-indigo-600 hover:bg-indigo-500 text-white disabled:opacity-50"
+                            >
+                                {loadingMore ? "Yükleniyor..." : "Daha fazla yükle"}
+                            </button>
+                        </div>
+                    )}
                 </div>
             </div>
         </div>
@@ -22,6 +22,26 @@ ticketApi.interceptors.request.use((config) => {
     return config;
 });
 
+// ✅ Keyset sayfalı listeler: { items, nextCursor } döner. Her çağrı tek sayfa getirir; sonraki sayfa
+// (nextCursor) yalnızca kullanıcı "Daha fazla yükle" dediğinde istenir
+export interface TicketPage<T> {
+    items: T[];
+    nextCursor: string | null;
+}
+
+const PAGE_SIZE = 50;
+
+const getPage = async <T>(
+    url: string,
+    cursor?: string | null,
+    params: Record<string, unknown> = {}
+): Promise<TicketPage<T>> => {
+    const res = await ticketApi.get<TicketPage<T>>(url, {
+        params: { ...params, size: PAGE_SIZE, ...(cursor ? { cursor } : {}) },
+    });
+    return res.data;
+};
+
 // ========== Types ==========
 export interface Category {
     id: number;
@@ -125,11 +145,10 @@ export const getCategories = async (): Promise<Category[]> => {
     }));
 };
 
-// Admin ticket listesi
-export const getAdminTickets = async (): Promise<AdminTicket[]> => {
-    const res = await ticketApi.get("/api/admin/tickets");
-    const arr = res.data as Array<any>;
-    return arr.map((t) => {
+// Admin ticket listesi (tek sayfa)
+export const getAdminTickets = async (cursor?: string | null): Promise<TicketPage<AdminTicket>> => {
+    const page = await getPage<any>("/api/admin/tickets", cursor);
+    const items = page.items.map((t): AdminTicket => {
         const isEmployee = t.employee === true;
 
         return {
@@ -148,14 +167,105 @@ export const getAdminTickets = async (): Promise<AdminTicket[]> => {
             departmentName: t.departmentName ?? "-", // ✅ departman adı ekledik
         };
     });
+    return { items, nextCursor: page.nextCursor };
 };
 
 // ========== Departman Ticket API Fonksiyonları (PERSON/ADMIN) ==========
-export const getDeptTickets = async (deptId: number): Promise<DeptTicket[]> => {
-    const res = await ticketApi.get(`/api/departments/${deptId}/tickets`);
+// ✅ Departman havuzu: açık ve üzerinde çalışılan ticket'lar tek istekte (öncelik, sonra yaş sıralı).
+// Bölümler sunucuda ayrı ayrı sınırlanır; truncated true ise en az bir bölümün tamamı gelmedi.
+export interface DeptPool {
+    departmentId: number;
+    open: DeptTicket[];
+    inProgress: DeptTicket[];
+    truncated: boolean;
+}
+
+export const getDepartmentPool = async (deptId: number): Promise<DeptPool> => {
+    const res = await ticketApi.get<DeptPool>(`/api/departments/${deptId}/pool`);
     return res.data;
 };
 
+// Kullanıcının kendi listeleri (üstlendiklerim / kapattıklarım / devrettiklerim), tek sayfa
+export const getMyAssignedTickets = async (personId: number, cursor?: string | null): Promise<TicketPage<DeptTicket>> =>
+    getPage<DeptTicket>("/api/departments/me/assigned", cursor, { personId });
+
+export const getMyClosedTickets = async (personId: number, cursor?: string | null): Promise<TicketPage<DeptTicket>> =>
+    getPage<DeptTicket>("/api/departments/me/closed", cursor, { personId });
+
+export const getMyTransferredTickets = async (personId: number, cursor?: string | null): Promise<TicketPage<DeptTicket>> =>
+    getPage<DeptTicket>("/api/departments/me/transferred", cursor, { personId });
+
+// ✅ Departman havuzu değişiklikleri (SSE). EventSource Authorization header gönderemediği için fetch ile okunur.
+// Bağlantı koparsa kısa bir beklemeden sonra yeniden bağlanır; dönen fonksiyon aboneliği kapatır.
+export type PoolEventType = "TICKET_CREATED" | "TICKET_TAKEN" | "TICKET_REASSIGNED" | "TICKET_CLOSED";
+
+export interface PoolEvent {
+    type: PoolEventType;
+    ticketId: number;
+    departmentId: number | null;
+    fromDepartmentId: number | null;
+    status: string | null;
+    personId: number | null;
+    at: string;
+}
+
+export const subscribePoolEvents = (
+    deptId: number,
+    onEvent: (e: PoolEvent) => void,
+    onReconnect?: () => void
+): (() => void) => {
+    const controller = new AbortController();
+
+    const connect = async () => {
+        while (!controller.signal.aborted) {
+            try {
+                const token = getToken();
+                const res = await fetch(`${ticketApi.defaults.baseURL}/api/departments/${deptId}/pool/events`, {
+                    headers: {
+                        Accept: "text/event-stream",
+                        ...(token ? { Authorization: `Bearer ${token}` } : {}),
+                    },
+                    signal: controller.signal,
+                });
+                if (!res.ok || !res.body) throw new Error(`SSE ${res.status}`);
+
+                const reader = res.body.getReader();
+                const decoder = new TextDecoder();
+                let buffer = "";
+                for (;;) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    buffer += decoder.decode(value, { stream: true });
+                    // Olaylar boş satırla ayrılır
+                    let sep: number;
+                    while ((sep = buffer.indexOf("\n\n")) >= 0) {
+                        const block = buffer.slice(0, sep);
+                        buffer = buffer.slice(sep + 2);
+                        let name = "message";
+                        const data: string[] = [];
+                        block.split("\n").forEach((line) => {
+                            if (line.startsWith("event:")) name = line.slice(6).trim();
+                            else if (line.startsWith("data:")) data.push(line.slice(5));
+                        });
+                        if (name === "ready") {
+                            onReconnect?.();
+                        } else if (data.length > 0) {
+                            onEvent(JSON.parse(data.join("\n")) as PoolEvent);
+                        }
+                    }
+                }
+            } catch (e) {
+                if (controller.signal.aborted) return;
+                console.warn("Havuz olay akışı koptu, yeniden bağlanılıyor:", e);
+            }
+            await new Promise((r) => setTimeout(r, 3000));
+        }
+    };
+
+    connect();
+    return () => controller.abort();
+};
+
 export const takeTicket = async (ticketId: number, deptId: number): Promise<DeptTicket> => {
     const res = await ticketApi.put(`/api/departments/tickets/${ticketId}/take?deptId=${deptId}`);
     return res.data;
@@ -195,9 +305,8 @@ export const createInternalTicket = async (
 };
 
 // ========== USER Ticket API Fonksiyonları ==========
-export const getUserTickets = async (): Promise<DeptTicket[]> => {
-    const res = await ticketApi.get("/api/user-panel/tickets");
-    return res.data;
+export const getUserTickets = async (cursor?: string | null): Promise<TicketPage<DeptTicket>> => {
+    return getPage<DeptTicket>("/api/user-panel/tickets", cursor);
 };
 
 export const createUserTicket = async (
@@ -1,10 +1,16 @@
 import React, { useEffect, useState } from "react";
 import {
-    getDeptTickets,
+    getDepartmentPool,
+    getMyAssignedTickets,
+    getMyClosedTickets,
+    getMyTransferredTickets,
+    subscribePoolEvents,
+    PoolEvent,
     takeTicket,
     reassignTicket,
     closeTicket,
     DeptTicket,
+    TicketPage,
 } from "../api/ticketApi";
 import { getMyProfile, MyProfile } from "../api/personApi";
 import { Link, useNavigate } from "react-router-dom";
@@ -15,6 +21,8 @@ type FilterType = "ALL" | "MY_ASSIGNED" | "MY_CLOSED" | "MY_TRANSFERRED";
 const UserPage: React.FC = () => {
     const [tickets, setTickets] = useState<DeptTicket[]>([]);
     const [loading, setLoading] = useState(false);
+    const [poolTruncated, setPoolTruncated] = useState(false);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
     const [filter, setFilter] = useState<FilterType>("ALL");
 
     const [userInfo, setUserInfo] = useState<{
@@ -75,32 +83,55 @@ const UserPage: React.FC = () => {
         }
     };
 
-    // Ticketları getir
+    // Kişisel listelerin bir sayfası (cursor yoksa ilk sayfa)
+    const myPage = (cursor?: string | null): Promise<TicketPage<DeptTicket>> | null => {
+        if (!userInfo.personId) return null;
+        switch (filter) {
+            case "MY_ASSIGNED":
+                return getMyAssignedTickets(userInfo.personId, cursor);
+            case "MY_CLOSED":
+                return getMyClosedTickets(userInfo.personId, cursor);
+            case "MY_TRANSFERRED":
+                return getMyTransferredTickets(userInfo.personId, cursor);
+            default:
+                return null;
+        }
+    };
+
+    // Ticketları getir (havuz ya da kişisel listenin ilk sayfası)
     const fetchTickets = async () => {
         if (!deptId) return;
         setLoading(true);
         try {
+            setPoolTruncated(false);
             if (filter === "ALL") {
-                const data = await getDeptTickets(deptId);
-                setTickets(data);
-            } else if (filter === "MY_ASSIGNED" && userInfo.personId) {
-                const res = await fetch(
-                    `http://localhost:8084/api/departments/me/assigned?personId=${userInfo.personId}`,
-                    { headers: { Authorization: `Bearer ${localStorage.getItem("token")}` } }
-                );
-                setTickets(await res.json());
-            } else if (filter === "MY_CLOSED" && userInfo.personId) {
-                const res = await fetch(
-                    `http://localhost:8084/api/departments/me/closed?personId=${userInfo.personId}`,
-                    { headers: { Authorization: `Bearer ${localStorage.getItem("token")}` } }
-                );
-                setTickets(await res.json());
-            } else if (filter === "MY_TRANSFERRED" && userInfo.personId) {
-                const res = await fetch(
-                    `http://localhost:8084/api/departments/me/transferred?personId=${userInfo.personId}`,
-                    { headers: { Authorization: `Bearer ${localStorage.getItem("token")}` } }
-                );
-                setTickets(await res.json());
+                const pool = await getDepartmentPool(deptId);
+                setTickets([...pool.open, ...pool.inProgress]);
+                setPoolTruncated(pool.truncated);
+                setNextCursor(null);
+            } else {
+                const page = await myPage();
+                if (page) {
+                    setTickets(page.items);
+                    setNextCursor(page.nextCursor);
+                }
+            }
+        } catch (e) {
+            console.error("Ticket yüklenemedi:", e);
+        } finally {
+            setLoading(false);
+        }
+    };
+
+    // Sonraki sayfa yalnızca kullanıcı isteyince çekilir ve listeye eklenir
+    const loadMore = async () => {
+        if (!nextCursor) return;
+        setLoading(true);
+        try {
+            const page = await myPage(nextCursor);
+            if (page) {
+                setTickets((prev) => [...prev, ...page.items]);
+                setNextCursor(page.nextCursor);
             }
         } catch (e) {
             console.error("Ticket yüklenemedi:", e);
@@ -161,6 +192,64 @@ const UserPage: React.FC = () => {
         fetchTickets();
     }, [deptId, filter, userInfo.personId]);
 
+    // ✅ Havuz olayları: olay verisiyle uygulanabilenler (üstlenme, kapatma, başka departmana devir) listeye yerelde
+    // işlenir. Yalnızca listeye yeni ticket girdiğinde (oluşturma, bu departmana devir, başka sekmede üstlenme)
+    // görünen liste yeniden okunur; "Havuz"da bu tek bir /pool isteğidir ve art arda gelenler tek istekte toplanır.
+    // Bağlantı koptuysa kaçan olaylar bilinmediğinden yeniden bağlanınca liste tazelenir.
+    useEffect(() => {
+        if (!deptId) return;
+        let timer: ReturnType<typeof setTimeout> | undefined;
+        let connected = false;
+        const reload = () => {
+            if (timer) clearTimeout(timer);
+            timer = setTimeout(() => fetchTickets(), 300);
+        };
+        const onReady = () => {
+            if (connected) reload();
+            connected = true;
+        };
+        const onEvent = (e: PoolEvent) => {
+            const inPool = filter === "ALL";
+            switch (e.type) {
+                case "TICKET_CREATED":
+                    if (inPool) reload();
+                    break;
+                case "TICKET_TAKEN":
+                    if (inPool) {
+                        setTickets((prev) =>
+                            prev.map((t) => (t.id === e.ticketId ? { ...t, status: e.status ?? "IN_PROGRESS" } : t))
+                        );
+                    } else if (filter === "MY_ASSIGNED" && e.personId === userInfo.personId) {
+                        reload();
+                    }
+                    break;
+                case "TICKET_REASSIGNED":
+                    if (inPool && e.departmentId === deptId) {
+                        reload();
+                    } else if (inPool || filter === "MY_ASSIGNED") {
+                        setTickets((prev) => prev.filter((t) => t.id !== e.ticketId));
+                    }
+                    break;
+                case "TICKET_CLOSED":
+                    if (inPool) {
+                        setTickets((prev) => prev.filter((t) => t.id !== e.ticketId));
+                    } else if (filter === "MY_ASSIGNED") {
+                        setTickets((prev) =>
+                            prev.map((t) =>
+                                t.id === e.ticketId ? { ...t, status: e.status ?? "DONE", active: false } : t
+                            )
+                        );
+                    }
+                    break;
+            }
+        };
+        const unsubscribe = subscribePoolEvents(deptId, onEvent, onReady);
+        return () => {
+            if (timer) clearTimeout(timer);
+            unsubscribe();
+        };
+    }, [deptId, filter, userInfo.personId]);
+
     const handleTake = async (ticketId: number) => {
         if (!deptId) return;
         await takeTicket(ticketId, deptId);
@@ -378,13 +467,31 @@ const UserPage: React.FC = () => {
                         filter === "ALL" ? "bg-purple-500" : "bg-gray-700"
                     } text-white`}
                 >
-                    Tümü
+                    Havuz
                 </button>
             </div>
 
+            {filter === "ALL" && poolTruncated && (
+                <div className="mb-4 px-4 py-2 rounded bg-amber-600/30 text-amber-200 text-sm">
+                    Havuzda gösterilenden fazla ticket var; en öncelikli ve en eski olanlar listeleniyor.
+                </div>
+            )}
+
             {renderTable(customerTickets, "CUSTOMER")}
             {renderTable(employeeTickets, "EMPLOYEE")}
 
+            {nextCursor && (
+                <div className="flex justify-center mb-8">
+                    <button
+                        onClick={loadMore}
+                        disabled={loading}
+                        className="px-4 py-2 rounded-lg bg-gray-700 hover:bg-gray-600 text-white disabled:opacity-50"
+                    >
+                        {loading ? "Yükleniyor..." : "Daha fazla yükle"}
+                    </button>
+                </div>
+            )}
+
             {transferOpen && (
                 <div className="fixed inset-0 bg-black/50 flex items-center justify-center p-4 z-50">
                     <div className="bg-white rounded-2xl p-4 w-full max-w-md text-gray-900">
@@ -10,6 +10,7 @@ import { useNavigate } from "react-router-dom";
 
 const UserPanel: React.FC = () => {
     const [tickets, setTickets] = useState<DeptTicket[]>([]);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
     const [categories, setCategories] = useState<Category[]>([]);
     const [form, setForm] = useState({
         issue: "",
@@ -44,11 +45,24 @@ const UserPanel: React.FC = () => {
         getCategories().then(setCategories).catch(() => setCategories([]));
     }, []);
 
-    // 🔹 Benim ticketlarımı getir
+    // 🔹 Benim ticketlarımı getir (ilk sayfa)
     const loadTickets = async () => {
         try {
-            const res = await getUserTickets();
-            setTickets(res);
+            const page = await getUserTickets();
+            setTickets(page.items);
+            setNextCursor(page.nextCursor);
+        } catch (err) {
+            console.error("Ticket yüklenemedi:", err);
+        }
+    };
+
+    // 🔹 Sonraki sayfa (kullanıcı isteyince)
+    const loadMore = async () => {
+        if (!nextCursor) return;
+        try {
+            const page = await getUserTickets(nextCursor);
+            setTickets((prev) => [...prev, ...page.items]);
+            setNextCursor(page.nextCursor);
         } catch (err) {
             console.error("Ticket yüklenemedi:", err);
         }
@@ -170,6 +184,16 @@ const UserPanel: React.FC = () => {
                         </tbody>
                     </table>
                 )}
+                {nextCursor && (
+                    <div className="flex justify-center mt-4">
+                        <button
+                            onClick={loadMore}
+                            className="px-4 py-2 rounded-lg bg-gray-700 hover:bg-gray-600 text-white"
+                        >
+                            Daha fazla yükle
+                        </button>
+                    </div>
+                )}
             </div>
         </div>
     );
@@ -0,0 +1,251 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+// Açık model yük üreticisi: istekler hedef RPS'e göre sabit aralıklarla planlanır ve bloklamadan (sendAsync) gönderilir.
+// Gecikme, isteğin planlandığı andan ölçülür; servis yavaşladığında bekleyen istekler de gecikmeye yansır
+// (coordinated omission yok). Eşzamanlı istek sınırı aşılırsa istek gönderilmez, "dropped" sayılır.
+//
+// Ticket yaşam döngüsü yük sırasında kurulur: create -> departman havuzu (OPEN) -> take -> IN_PROGRESS
+// -> close | reassign (başka departmanın havuzuna). Gereken durumda ticket yoksa işlem create'e döner.
+final class LoadDriver {
+    private record Ticket(long id, long departmentId) {}
+
+    // batch işleminde istek başına ticket sayısı
+    private static final int BATCH_SIZE = 50;
+
+    private final LoadTestOptions options;
+    private final String baseUrl;
+    private final List<Integer> categoryIds;
+    private final List<String> personTokens;
+    private final String adminToken;
+    private final String integrationToken;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient http;
+    private final Operation[] wheel;
+
+    private final Map<Long, ConcurrentLinkedQueue<Ticket>> open = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Ticket> inProgress = new ConcurrentLinkedQueue<>();
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    LoadDriver(LoadTestOptions options, String baseUrl, List<Integer> categoryIds,
+               List<String> personTokens, String adminToken, String integrationToken) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.categoryIds = categoryIds;
+        this.personTokens = personTokens;
+        this.adminToken = adminToken;
+        this.integrationToken = integrationToken;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation op : Operation.values()) {
+            stats.put(op, new OperationStats());
+        }
+        // Ağırlıklar kadar tekrar eden seçim tablosu
+        this.wheel = options.mix().entrySet().stream()
+                .flatMap(e -> Stream.generate(e::getKey).limit(e.getValue()))
+                .toArray(Operation[]::new);
+    }
+
+    // Isınma + ölçüm süresince planlama yapar, kalan isteklerin bitmesini bekler
+    Map<Operation, OperationStats> run() throws InterruptedException {
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long interval = 1_000_000_000L / options.rps();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) break;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            boolean measured = intended >= measureFrom;
+            if (measured) scheduled.increment();
+            if (!inFlight.tryAcquire()) {
+                if (measured) dropped.increment();
+                continue;
+            }
+            Operation op = wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+            execute(op, intended, measured).whenComplete((r, e) -> inFlight.release());
+        }
+        // Yoldaki isteklerin bitmesi beklenir
+        inFlight.tryAcquire(options.maxInFlight(), 60, TimeUnit.SECONDS);
+        return stats;
+    }
+
+    long scheduled() {
+        return scheduled.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long fallbacks() {
+        return fallbacks.sum();
+    }
+
+    private CompletableFuture<?> execute(Operation requested, long intended, boolean measured) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Operation selected = requested;
+        Ticket selectedTicket = null;
+        if (selected == Operation.TAKE) {
+            long dept = 1 + random.nextInt(options.departments());
+            selectedTicket = queue(dept).poll();
+            if (selectedTicket == null) selectedTicket = anyOpen();
+        } else if (selected == Operation.REASSIGN || selected == Operation.CLOSE) {
+            selectedTicket = inProgress.poll();
+        }
+        if ((selected == Operation.TAKE || selected == Operation.REASSIGN || selected == Operation.CLOSE)
+                && selectedTicket == null) {
+            selected = Operation.CREATE_PUBLIC;
+            fallbacks.increment();
+        }
+
+        Operation op = selected;
+        Ticket ticket = selectedTicket;
+        HttpRequest request;
+        try {
+            request = request(op, ticket, random);
+        } catch (Exception e) {
+            if (measured) stats.get(op).record(System.nanoTime() - intended, false);
+            return CompletableFuture.completedFuture(null);
+        }
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    boolean success = error == null && response.statusCode() / 100 == 2;
+                    if (measured) {
+                        stats.get(op).record(System.nanoTime() - intended, success);
+                    }
+                    if (success) {
+                        try {
+                            onSuccess(op, ticket, response.body());
+                        } catch (Exception ignored) {
+                            // Cevap okunamazsa ticket yaşam döngüsüne eklenmez
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private HttpRequest request(Operation op, Ticket ticket, ThreadLocalRandom random) throws Exception {
+        String personToken = personTokens.get(random.nextInt(personTokens.size()));
+        return switch (op) {
+            case CREATE_PUBLIC -> builder("/api/tickets/public", null)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(publicTicket(random))))
+                    .build();
+            // Hızlı kabul modu: 202 + takip token'ı; ticket arka planda oluştuğundan yaşam döngüsüne eklenmez
+            case CREATE_ASYNC -> builder("/api/tickets/public", null)
+                    .header("Content-Type", "application/json")
+                    .header("Prefer", "respond-async")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(publicTicket(random))))
+                    .build();
+            case CREATE_BATCH -> {
+                List<Map<String, Object>> body = Stream.generate(() -> publicTicket(random)).limit(BATCH_SIZE).toList();
+                yield builder("/api/tickets/public/batch", integrationToken)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                        .build();
+            }
+            case POOL -> builder("/api/departments/" + (1 + random.nextInt(options.departments())) + "/pool",
+                    personToken).GET().build();
+            case TAKE -> builder("/api/departments/tickets/" + ticket.id() + "/take?deptId=" + ticket.departmentId(),
+                    personToken).PUT(HttpRequest.BodyPublishers.noBody()).build();
+            case REASSIGN -> builder("/api/departments/tickets/" + ticket.id() + "/reassign/"
+                            + otherDepartment(ticket.departmentId(), random) + "?fromDeptId=" + ticket.departmentId(),
+                    personToken).PUT(HttpRequest.BodyPublishers.noBody()).build();
+            case CLOSE -> builder("/api/departments/tickets/" + ticket.id() + "/close", personToken)
+                    .PUT(HttpRequest.BodyPublishers.noBody()).build();
+            case ADMIN_LIST -> builder("/api/admin/tickets?size=50", adminToken).GET().build();
+        };
+    }
+
+    private Map<String, Object> publicTicket(ThreadLocalRandom random) {
+        long n = random.nextLong(1_000_000_000L);
+        return Map.of(
+                "email", "musteri" + n + "@example.com",
+                "firstName", "Müşteri",
+                "lastName", "Yük" + n,
+                "phone", "0555" + (1_000_000 + random.nextInt(9_000_000)),
+                "issue", "Ödeme adımında zaman aşımı, sipariş " + n,
+                "priority", List.of("LOW", "MEDIUM", "HIGH").get(random.nextInt(3)),
+                "categoryId", categoryIds.get(random.nextInt(categoryIds.size())));
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            b.header("Authorization", "Bearer " + token);
+        }
+        return b;
+    }
+
+    private void onSuccess(Operation op, Ticket ticket, String body) throws Exception {
+        switch (op) {
+            case CREATE_PUBLIC -> {
+                JsonNode node = mapper.readTree(body);
+                long id = node.path("id").asLong();
+                long dept = node.path("departmentId").asLong();
+                if (id > 0 && dept > 0) queue(dept).add(new Ticket(id, dept));
+            }
+            case CREATE_BATCH -> {
+                for (JsonNode item : mapper.readTree(body).path("items")) {
+                    long id = item.path("ticketId").asLong();
+                    long dept = item.path("departmentId").asLong();
+                    if (id > 0 && dept > 0) queue(dept).add(new Ticket(id, dept));
+                }
+            }
+            case TAKE -> inProgress.add(ticket);
+            case REASSIGN -> {
+                long to = mapper.readTree(body).path("departmentId").asLong();
+                if (to > 0) queue(to).add(new Ticket(ticket.id(), to));
+            }
+            default -> { }
+        }
+    }
+
+    private long otherDepartment(long current, ThreadLocalRandom random) {
+        long to = 1 + random.nextInt(options.departments() - 1);
+        return to >= current ? to + 1 : to;
+    }
+
+    private ConcurrentLinkedQueue<Ticket> queue(long dept) {
+        return open.computeIfAbsent(dept, d -> new ConcurrentLinkedQueue<>());
+    }
+
+    private Ticket anyOpen() {
+        for (ConcurrentLinkedQueue<Ticket> q : open.values()) {
+            Ticket t = q.poll();
+            if (t != null) return t;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Komut satırı: --rps=200 --duration=60s --warmup=15s --mix=create:30,pool:30,take:15,reassign:5,close:10,admin:10
+//               --person-latency=20ms --person-jitter=10ms --person-error-rate=0.01
+//               --departments=8 --persons=200 --max-in-flight=2000
+// Bunların dışındaki --anahtar=değer argümanları ticket-service'e (Spring) aynen geçirilir.
+public record LoadTestOptions(
+        int rps,
+        Duration duration,
+        Duration warmup,
+        Map<Operation, Integer> mix,
+        Duration personLatency,
+        Duration personJitter,
+        double personErrorRate,
+        int departments,
+        int persons,
+        int maxInFlight,
+        List<String> springArgs
+) {
+    private static final String DEFAULT_MIX = "create:30,pool:30,take:15,reassign:5,close:10,admin:10";
+
+    public static LoadTestOptions parse(String[] args) {
+        int rps = 100;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(15);
+        String mix = DEFAULT_MIX;
+        Duration personLatency = Duration.ofMillis(20);
+        Duration personJitter = Duration.ofMillis(10);
+        double personErrorRate = 0.0;
+        int departments = 8;
+        int persons = 200;
+        int maxInFlight = 2000;
+        List<String> springArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Argüman --anahtar=değer biçiminde olmalı: " + arg);
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "rps" -> rps = Integer.parseInt(value);
+                case "duration" -> duration = duration(value);
+                case "warmup" -> warmup = duration(value);
+                case "mix" -> mix = value;
+                case "person-latency" -> personLatency = duration(value);
+                case "person-jitter" -> personJitter = duration(value);
+                case "person-error-rate" -> personErrorRate = Double.parseDouble(value);
+                case "departments" -> departments = Integer.parseInt(value);
+                case "persons" -> persons = Integer.parseInt(value);
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                default -> springArgs.add(arg);
+            }
+        }
+        if (rps <= 0 || departments < 2 || persons <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("rps, persons, max-in-flight > 0 ve departments >= 2 olmalı");
+        }
+        if (personErrorRate < 0 || personErrorRate > 1) {
+            throw new IllegalArgumentException("person-error-rate 0 ile 1 arasında olmalı");
+        }
+        return new LoadTestOptions(rps, duration, warmup, parseMix(mix), personLatency, personJitter,
+                personErrorRate, departments, persons, maxInFlight, List.copyOf(springArgs));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] kv = part.split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("mix öğesi islem:ağırlık olmalı: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix ağırlığı negatif olamaz: " + part);
+            }
+            weights.put(Operation.fromKey(kv[0]), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix ağırlıklarının toplamı 0 olamaz");
+        }
+        return weights;
+    }
+
+    // 250ms, 30s, 5m ya da ISO-8601 (PT30S)
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.startsWith("pt")) return Duration.parse(v.toUpperCase());
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        throw new IllegalArgumentException("Süre biçimi anlaşılamadı: " + value);
+    }
+}
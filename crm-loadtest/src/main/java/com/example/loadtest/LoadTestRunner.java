@@ -0,0 +1,138 @@
+package com.example.loadtest;
+
+import com.example.ticket_service.TicketServiceApplication;
+import com.example.ticket_service.entity.CategoryEntity;
+import com.example.ticket_service.repository.CategoryRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Tek makinede, ağ ve MSSQL olmadan uçtan uca yük testi:
+//   1) person/department-service stub'ı açılır (gecikme ve hata oranı ayarlanabilir)
+//   2) ticket-service "loadtest" profiliyle (H2, bellek içi) aynı JVM'de açılır, kategoriler eklenir
+//   3) hedef RPS'te işlem karışımı uygulanır; işlem başına throughput, p50/p95/p99/max ve hata sayısı yazılır
+// Örnek: java -jar crm-loadtest/target/crm-loadtest-0.0.1-SNAPSHOT-exec.jar --rps=300 --duration=2m --person-error-rate=0.02
+public final class LoadTestRunner {
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ServiceStub stub = new ServiceStub(options.personLatency(), options.personJitter(),
+                options.personErrorRate(), options.departments())) {
+            List<String> springArgs = new ArrayList<>(List.of(
+                    "--spring.profiles.active=loadtest",
+                    "--PERSON_SERVICE_URL=" + stub.personServiceUrl(),
+                    "--DEPARTMENT_SERVICE_URL=" + stub.departmentServiceUrl()));
+            springArgs.addAll(options.springArgs());
+
+            SpringApplication app = new SpringApplication(TicketServiceApplication.class);
+            try (var context = (ServletWebServerApplicationContext) app.run(springArgs.toArray(String[]::new))) {
+                String baseUrl = "http://127.0.0.1:" + context.getWebServer().getPort();
+                Environment env = context.getEnvironment();
+                String secret = env.getRequiredProperty("jwt.secret");
+                String issuer = env.getProperty("jwt.issuer", "");
+
+                List<Integer> categoryIds = seedCategories(context.getBean(CategoryRepository.class), options.departments());
+                List<String> personTokens = new ArrayList<>(options.persons());
+                for (long p = 1; p <= options.persons(); p++) {
+                    personTokens.add(token(secret, issuer, "PERSON", p));
+                }
+                String adminToken = token(secret, issuer, "ADMIN", null);
+                String integrationToken = token(secret, issuer, "INTEGRATION", null);
+
+                System.out.printf("ticket-service %s | stub %s | %d rps, ısınma %ds, ölçüm %ds%n",
+                        baseUrl, stub.personServiceUrl(), options.rps(),
+                        options.warmup().toSeconds(), options.duration().toSeconds());
+
+                LoadDriver driver = new LoadDriver(options, baseUrl, categoryIds, personTokens, adminToken,
+                        integrationToken);
+                Map<Operation, OperationStats> stats = driver.run();
+                report(options, driver, stats, stub);
+            }
+        }
+    }
+
+    private static List<Integer> seedCategories(CategoryRepository categories, int departments) {
+        List<Integer> ids = new ArrayList<>(departments);
+        for (long d = 1; d <= departments; d++) {
+            ids.add(categories.save(CategoryEntity.builder()
+                    .key("loadtest-" + d)
+                    .displayName("Yük testi " + d)
+                    .targetDepartmentId(d)
+                    .active(true)
+                    .createdDate(LocalDateTime.now())
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    // user-service'in access token'ı ile aynı claim yapısı (role, personId)
+    private static String token(String secret, String issuer, String role, Long personId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", role);
+        if (personId != null) {
+            claims.put("personId", personId);
+        }
+        Date now = new Date();
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(role.toLowerCase(Locale.ROOT) + (personId != null ? personId : "") + "@crm.local")
+                .setIssuer(issuer)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 24 * 3600 * 1000L))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static void report(LoadTestOptions options, LoadDriver driver,
+                               Map<Operation, OperationStats> stats, ServiceStub stub) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        System.out.println();
+        System.out.printf("%-12s %9s %8s %9s %9s %9s %9s %9s%n",
+                "işlem", "istek", "hata", "rps", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long total = 0;
+        long errors = 0;
+        for (Operation op : Operation.values()) {
+            OperationStats.Snapshot s = stats.get(op).snapshot();
+            if (s.count() == 0) continue;
+            total += s.count();
+            errors += s.errors();
+            System.out.printf(Locale.ROOT, "%-12s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    op.key(), s.count(), s.errors(), s.count() / seconds,
+                    s.percentileMillis(50), s.percentileMillis(95), s.percentileMillis(99), s.maxMillis());
+        }
+        OperationStats.Snapshot all = merge(stats);
+        System.out.printf(Locale.ROOT, "%-12s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                "TOPLAM", total, errors, total / seconds,
+                all.percentileMillis(50), all.percentileMillis(95), all.percentileMillis(99), all.maxMillis());
+        System.out.println();
+        System.out.printf("planlanan %d, gönderilemeyen (max-in-flight) %d, create'e dönen %d%n",
+                driver.scheduled(), driver.dropped(), driver.fallbacks());
+        System.out.printf("person stub: %d çağrı, %d id, %d enjekte hata | department stub: %d çağrı%n",
+                stub.personCalls.sum(), stub.personIds.sum(), stub.personErrors.sum(), stub.departmentCalls.sum());
+    }
+
+    private static OperationStats.Snapshot merge(Map<Operation, OperationStats> stats) {
+        long[] all = stats.values().stream()
+                .map(OperationStats::snapshot)
+                .flatMapToLong(s -> Arrays.stream(s.sorted()))
+                .sorted()
+                .toArray();
+        return new OperationStats.Snapshot(all, 0);
+    }
+}
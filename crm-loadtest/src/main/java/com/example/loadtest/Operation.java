@@ -0,0 +1,32 @@
+package com.example.loadtest;
+
+// Yük karışımındaki işlemler; key komut satırındaki --mix adıdır (ör. create:30,pool:30)
+public enum Operation {
+    CREATE_PUBLIC("create"),
+    CREATE_BATCH("batch"),
+    CREATE_ASYNC("async"),
+    POOL("pool"),
+    TAKE("take"),
+    REASSIGN("reassign"),
+    CLOSE("close"),
+    ADMIN_LIST("admin");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation op : values()) {
+            if (op.key.equalsIgnoreCase(key.trim())) {
+                return op;
+            }
+        }
+        throw new IllegalArgumentException("Bilinmeyen işlem: " + key);
+    }
+}
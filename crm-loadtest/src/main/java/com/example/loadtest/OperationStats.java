@@ -0,0 +1,43 @@
+package com.example.loadtest;
+
+import java.util.Arrays;
+
+// Tek işlem türünün ölçümleri: her isteğin gecikmesi (planlanan başlangıçtan bitişe, ns) ve hata sayısı.
+// Ölçüm süresi boyunca tüm örnekler tutulur; yüzdelikler rapor anında tam olarak hesaplanır.
+final class OperationStats {
+    private long[] latencies = new long[4096];
+    private int count;
+    private long errors;
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors);
+    }
+
+    record Snapshot(long[] sorted, long errors) {
+        long count() {
+            return sorted.length;
+        }
+
+        double percentileMillis(double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+
+        double maxMillis() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// person-service ve department-service yerine geçen gömülü HTTP sunucusu (JDK HttpServer).
+// Platform thread'lerde çalışır: gerçek servis ayrı süreçtir, ticket-service'in sanal thread taşıyıcılarını paylaşmamalı.
+//   POST /api/persons/batch     -> {id: {id, email, name, surname}}; gecikme + jitter ve hata oranı ayarlanabilir
+//   GET  /api/departments/      -> [{id, name}]
+//   GET  /api/departments/version -> {"version": 1}
+final class ServiceStub implements AutoCloseable {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final int departments;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    final LongAdder personCalls = new LongAdder();
+    final LongAdder personIds = new LongAdder();
+    final LongAdder personErrors = new LongAdder();
+    final LongAdder departmentCalls = new LongAdder();
+
+    ServiceStub(Duration latency, Duration jitter, double errorRate, int departments) throws IOException {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        this.departments = departments;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/api/persons/", this::persons);
+        server.createContext("/api/departments/", this::departments);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String personServiceUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/persons/";
+    }
+
+    String departmentServiceUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/departments/";
+    }
+
+    private void persons(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            personCalls.increment();
+            if (!"POST".equals(exchange.getRequestMethod()) || !exchange.getRequestURI().getPath().endsWith("/batch")) {
+                send(exchange, 404, "{}");
+                return;
+            }
+            Long[] ids = mapper.readValue(exchange.getRequestBody(), Long[].class);
+            personIds.add(ids.length);
+            sleep();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                personErrors.increment();
+                send(exchange, 503, "{\"error\":\"injected\"}");
+                return;
+            }
+            Map<Long, Map<String, Object>> body = new LinkedHashMap<>();
+            for (Long id : ids) {
+                body.put(id, Map.of("id", id, "email", "person" + id + "@crm.local",
+                        "name", "Personel", "surname", "No" + id));
+            }
+            send(exchange, 200, mapper.writeValueAsString(body));
+        }
+    }
+
+    private void departments(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            departmentCalls.increment();
+            if (exchange.getRequestURI().getPath().endsWith("/version")) {
+                send(exchange, 200, "{\"version\":1}");
+                return;
+            }
+            List<Map<String, Object>> body = new ArrayList<>(departments);
+            for (long d = 1; d <= departments; d++) {
+                body.add(Map.of("id", d, "name", "Departman " + d));
+            }
+            send(exchange, 200, mapper.writeValueAsString(body));
+        }
+    }
+
+    private void sleep() {
+        long nanos = latency.toNanos();
+        if (!jitter.isZero()) {
+            nanos += ThreadLocalRandom.current().nextLong(jitter.toNanos() + 1);
+        }
+        if (nanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(nanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
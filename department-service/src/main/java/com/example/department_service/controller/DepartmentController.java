@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -26,6 +27,12 @@ public class DepartmentController {
         return ResponseEntity.ok(response);
     }
 
+    // Departman listesinin sürümü (ticket-service ad önbelleğini bununla tazeler)
+    @GetMapping("/version")
+    public ResponseEntity<Map<String, Long>> getVersion() {
+        return ResponseEntity.ok(Map.of("version", departmentService.getVersion()));
+    }
+
     // ID ile tek departman getir
     @GetMapping("/{id}")
     public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id) {
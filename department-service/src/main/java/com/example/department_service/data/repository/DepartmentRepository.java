@@ -2,6 +2,7 @@ package com.example.department_service.data.repository;
 
 import com.example.department_service.data.entity.DepartmentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.*;
 
@@ -11,4 +12,8 @@ public interface DepartmentRepository extends JpaRepository<DepartmentEntity,Lon
     List<DepartmentEntity> findAllByDeletedFalse();
     // Belirli bir ID'ye sahip ve silinmemiş departmanı getirir
     Optional<DepartmentEntity> findByIdAndDeletedFalse(Long id);
+    // Departman adlarının özet checksum'ı; ad/silinme değiştiğinde değeri değişir (diğer servislerin önbelleği için)
+    @Query(value = "select checksum_agg(binary_checksum(department_id, name, is_deleted)) from departments",
+            nativeQuery = true)
+    Integer namesChecksum();
 }
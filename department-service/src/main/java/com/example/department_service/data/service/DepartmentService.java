@@ -16,4 +16,6 @@ public interface DepartmentService {
     //Mevcut bir departmanı id'ye göre sil
     // (soft delete olduğu için tamamen silmez silindi olarak işaretler)
     void deleteDepartment(Long id);
+    //Departman listesinin sürümü (ad/silinme değiştikçe değişir)
+    long getVersion();
 }
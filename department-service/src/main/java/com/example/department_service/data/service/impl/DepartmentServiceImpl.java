@@ -1,14 +1,17 @@
 package com.example.department_service.data.service.impl;
 
+import com.example.common.config.MetricsConfig;
 import com.example.department_service.data.entity.DepartmentEntity;
 import com.example.department_service.data.repository.DepartmentRepository;
 import com.example.department_service.data.service.DepartmentService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
@@ -49,4 +52,10 @@ public class DepartmentServiceImpl implements DepartmentService {
                     departmentRepository.save(department);
                 });
     }
-}
\ No newline at end of file
+
+    @Override
+    public long getVersion() {
+        Integer checksum = departmentRepository.namesChecksum();
+        return checksum != null ? checksum : 0L;
+    }
+}
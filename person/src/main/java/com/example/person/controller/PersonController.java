@@ -9,7 +9,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import java.net.URI;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -17,6 +20,9 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/persons")
 @RequiredArgsConstructor
 public class PersonController {
+    // Tek bir toplu istekte kabul edilen en fazla id (SQL Server 2100 parametre sınırının altında)
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final PersonService personService;
 
     // Giriş yapan PERSON’un bilgilerini döner
@@ -44,6 +50,23 @@ public class PersonController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // Id listesine göre personları toplu döner (id -> person). Bulunamayan/pasif id'ler map'te yer almaz.
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, PersonResponseDto>> getPersonsByIds(@RequestBody List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ResponseEntity.ok(Map.of());
+        }
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        Map<Long, PersonResponseDto> out = new LinkedHashMap<>();
+        for (PersonEntity e : personService.getPersonsByIds(distinct)) {
+            out.put(e.getId(), toResponse(e));
+        }
+        return ResponseEntity.ok(out);
+    }
+
     // sadece Person kaydı yapar (login yok)
     @PostMapping
     public ResponseEntity<PersonResponseDto> createPerson(@RequestBody PersonRequestDto req) {
@@ -2,6 +2,7 @@ package com.example.person.repository;
 
 import com.example.person.entity.PersonEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,6 @@ public interface PersonRepository extends JpaRepository<PersonEntity, Long> {
     List<PersonEntity> findByActiveTrueAndDepartmentIdIsNull();
     // Email ile person bul (UserPage -> /me için gerekli)
     Optional<PersonEntity> findByEmail(String email);
+    // Verilen id listesindeki aktif personları tek sorguda getir (ticket-service toplu çağrısı için)
+    List<PersonEntity> findByIdInAndActiveTrue(Collection<Long> ids);
 }
@@ -1,6 +1,7 @@
 package com.example.person.service;
 
 import com.example.person.entity.PersonEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +22,6 @@ public interface PersonService {
     Optional<PersonEntity> assignDepartment(Long personId, Long departmentId);
     // email ile person bul ---
     Optional<PersonEntity> getByEmail(String email);
+    // Id listesine göre aktif person kayıtlarını toplu getirir
+    List<PersonEntity> getPersonsByIds(Collection<Long> ids);
 }
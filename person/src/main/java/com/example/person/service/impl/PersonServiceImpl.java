@@ -1,14 +1,18 @@
 package com.example.person.service.impl;
 
+import com.example.common.config.MetricsConfig;
 import com.example.person.entity.PersonEntity;
 import com.example.person.repository.PersonRepository;
 import com.example.person.service.PersonService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class PersonServiceImpl implements PersonService {
     private final PersonRepository personRepository;
@@ -79,4 +83,12 @@ public class PersonServiceImpl implements PersonService {
     public Optional<PersonEntity> getByEmail(String email) {
         return personRepository.findByEmail(email);
     }
+
+    @Override
+    public List<PersonEntity> getPersonsByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return personRepository.findByIdInAndActiveTrue(ids);
+    }
 }
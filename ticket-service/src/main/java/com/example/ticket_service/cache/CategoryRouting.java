@@ -0,0 +1,61 @@
+package com.example.ticket_service.cache;
+
+import com.example.ticket_service.entity.CategoryEntity;
+import com.example.ticket_service.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Kategori -> hedef departman yönlendirmesi için bellek içi tablo.
+// Kategoriler yalnızca migration ile değiştiğinden tüm tablo tek sorguyla okunur ve ttl boyunca tutulur;
+// toplu ticket alımında kategori başına sorgu atılmaz.
+@Component
+@Slf4j
+public class CategoryRouting {
+    // Kategorinin yönlendirdiği departman (hedef tanımlı değilse null)
+    public record Route(Integer categoryId, Long targetDepartmentId) {}
+
+    private final CategoryRepository categoryRepository;
+    private final long ttlNanos;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Map<Integer, Route> routes;
+    private volatile long loadedNanos;
+
+    public CategoryRouting(CategoryRepository categoryRepository,
+                           @Value("${ticket.category.cache-ttl:5m}") Duration ttl) {
+        this.categoryRepository = categoryRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    // Kategori bulunamazsa null döner
+    public Route find(Integer categoryId) {
+        return categoryId != null ? current().get(categoryId) : null;
+    }
+
+    private Map<Integer, Route> current() {
+        Map<Integer, Route> snapshot = routes;
+        if (snapshot != null && System.nanoTime() - loadedNanos < ttlNanos) {
+            return snapshot;
+        }
+        loadLock.lock();
+        try {
+            if (routes == null || System.nanoTime() - loadedNanos >= ttlNanos) {
+                Map<Integer, Route> byId = new HashMap<>();
+                for (CategoryEntity c : categoryRepository.findAll()) {
+                    byId.put(c.getId(), new Route(c.getId(), c.getTargetDepartmentId()));
+                }
+                routes = Map.copyOf(byId);
+                loadedNanos = System.nanoTime();
+                log.debug("Kategori yönlendirmesi yüklendi ({} kategori)", byId.size());
+            }
+            return routes;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.ticket_service.cache;
+
+import com.example.ticket_service.entity.CustomerEntity;
+import com.example.ticket_service.repository.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.*;
+
+// Email -> müşteri önbelleği ve public ticket'lar için müşteri bul-ya-da-ekle.
+// Tekrar gelen müşteri önbellekten çözülür (DB'ye gidilmez); ticket'a id'si dolu, yönetilmeyen bir CustomerEntity
+// bağlanır (ilişkide cascade yok, yalnızca FK yazılır). Müşteri bilgileri oluşturulduktan sonra değişmediğinden
+// önbellek bayatlamaz.
+// Önbellekte olmayan müşteri için önce doğrudan INSERT denenir (yeni müşteri tek round trip); email zaten kayıtlıysa
+// (eşzamanlı ekleme ya da önbelleğe henüz girmemiş eski müşteri) unique kısıtına takılır ve satır okunur.
+// INSERT çağıranın transaction'ında (aynı bağlantı) JDBC ile yapılır: SQL Server'da unique ihlali yalnızca o ifadeyi
+// geri aldığından transaction ve Hibernate oturumu etkilenmez. Id, CustomerEntity'nin Hibernate üreteciyle
+// (toplu eklemedeki persist ile aynı blok) alınır. Eklenen müşteri önbelleğe commit'ten sonra yazılır.
+@Component
+@Slf4j
+public class CustomerDirectory {
+    private static final String INSERT_CUSTOMER =
+            "insert into customers (customer_id, email, name, surname, phone) values (?, ?, ?, ?, ?)";
+
+    // Önbellekteki müşteri özeti (entity'ler oturuma bağlanabildiğinden paylaşılmaz, her seferinde yeniden kurulur)
+    private record Customer(Long id, String email, String name, String surname, String phone) {
+
+        static Customer of(CustomerEntity c) {
+            return new Customer(c.getId(), c.getEmail(), c.getName(), c.getSurname(), c.getPhone());
+        }
+
+        CustomerEntity toEntity() {
+            return CustomerEntity.builder().id(id).email(email).name(name).surname(surname).phone(phone).build();
+        }
+    }
+
+    private final CustomerRepository customerRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Customer> cache;
+
+    public CustomerDirectory(CustomerRepository customerRepository,
+                             EntityManager entityManager,
+                             DataSource dataSource,
+                             MeterRegistry meterRegistry,
+                             @Value("${customer.cache.max-size:100000}") long maxSize,
+                             @Value("${customer.cache.ttl:1h}") Duration ttl) {
+        this.customerRepository = customerRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "customer.directory");
+    }
+
+    // Email'in müşterisini döner, yoksa verilen bilgilerle ekler. Çağıranın transaction'ında çalışmalıdır.
+    public CustomerEntity resolve(String email, String name, String surname, String phone) {
+        String key = emailKey(email);
+        Customer cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.toEntity();
+        }
+        for (int attempt = 1; ; attempt++) {
+            Customer created = new Customer(nextId(), email, name, surname, phone);
+            try {
+                jdbcTemplate.update(INSERT_CUSTOMER, created.id(), created.email(), created.name(),
+                        created.surname(), created.phone());
+                afterCommit(() -> cache.put(key, created));
+                return created.toEntity();
+            } catch (DuplicateKeyException e) {
+                Optional<CustomerEntity> existing = customerRepository.findByEmail(email);
+                if (existing.isPresent()) {
+                    cache.put(key, Customer.of(existing.get()));
+                    return existing.get();
+                }
+                // Satırı ekleyen eşzamanlı transaction geri alındı: ekleme tekrar denenir
+                if (attempt >= 3) {
+                    throw e;
+                }
+                log.debug("Müşteri eklemesi çakıştı ve satır bulunamadı, tekrar deneniyor: {}", email);
+            }
+        }
+    }
+
+    // Verilen email'lerden önbellekte olanları döner (anahtar: küçük harfli email)
+    public Map<String, CustomerEntity> findCached(Collection<String> emails) {
+        Map<String, CustomerEntity> found = new HashMap<>();
+        for (String email : emails) {
+            String key = emailKey(email);
+            Customer c = cache.getIfPresent(key);
+            if (c != null) {
+                found.put(key, c.toEntity());
+            }
+        }
+        return found;
+    }
+
+    // DB'de var olduğu bilinen ya da çağıranın transaction'ında eklenen müşterileri önbelleğe yazar
+    // (ekleme varsa commit'ten sonra)
+    public void remember(Collection<CustomerEntity> existing, Collection<CustomerEntity> inserted) {
+        existing.forEach(c -> cache.put(emailKey(c.getEmail()), Customer.of(c)));
+        if (!inserted.isEmpty()) {
+            List<Customer> snapshot = inserted.stream().map(Customer::of).toList();
+            afterCommit(() -> snapshot.forEach(c -> cache.put(emailKey(c.email()), c)));
+        }
+    }
+
+    // SQL Server collation'ı email karşılaştırmasında büyük/küçük harf duyarsız
+    public static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // CustomerEntity'nin id üreteci (customers_seq, pooled optimizer): id'ler çoğunlukla bellekteki bloktan verilir
+    Long nextId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(CustomerEntity.class).getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
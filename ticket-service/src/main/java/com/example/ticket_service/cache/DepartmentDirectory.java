@@ -0,0 +1,98 @@
+package com.example.ticket_service.cache;
+
+import com.example.ticket_service.client.DepartmentClient;
+import com.example.ticket_service.client.DepartmentSummary;
+import com.example.ticket_service.entity.CategoryEntity;
+import com.example.ticket_service.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Ticket listelerinde departman adlarını çözmek için bellek içi anlık görüntü.
+// Açılışta categories tablosundan yüklenir; ilk yetkili istekte ve sonra her check-interval'da
+// department-service sürümü kontrol edilir, sürüm değiştiyse gerçek departman adlarıyla yeniden yüklenir.
+@Component
+@Slf4j
+public class DepartmentDirectory {
+    private final DepartmentClient departmentClient;
+    private final CategoryRepository categoryRepository;
+    private final long checkIntervalNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile DepartmentNames names = DepartmentNames.EMPTY;
+    private volatile long lastCheckNanos;
+    private volatile boolean remoteLoaded;
+
+    public DepartmentDirectory(DepartmentClient departmentClient,
+                               CategoryRepository categoryRepository,
+                               @Value("${department.names.check-interval:30s}") Duration checkInterval) {
+        this.departmentClient = departmentClient;
+        this.categoryRepository = categoryRepository;
+        this.checkIntervalNanos = checkInterval.toNanos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromCategories() {
+        names = DepartmentNames.of(categoryNames(), null);
+        log.info("Departman adları kategori tablosundan yüklendi ({} kayıt)", names.size());
+    }
+
+    // Güncel anlık görüntü. Token varsa ve kontrol zamanı geldiyse sürüm kontrolü yapılır;
+    // aynı anda yalnızca bir istek tazeler, diğerleri mevcut görüntüyle devam eder.
+    public DepartmentNames snapshot(String jwtToken) {
+        if (jwtToken != null && isCheckDue() && refreshLock.tryLock()) {
+            try {
+                if (isCheckDue()) {
+                    refresh(jwtToken);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return names;
+    }
+
+    private boolean isCheckDue() {
+        return !remoteLoaded || System.nanoTime() - lastCheckNanos >= checkIntervalNanos;
+    }
+
+    private void refresh(String jwtToken) {
+        lastCheckNanos = System.nanoTime();
+        Long version = departmentClient.getVersion(jwtToken);
+        if (version == null || (remoteLoaded && Objects.equals(version, names.version()))) {
+            return;
+        }
+        List<DepartmentSummary> departments = departmentClient.getAllDepartments(jwtToken);
+        if (departments == null) {
+            return;
+        }
+        Map<Long, String> byId = categoryNames();
+        for (DepartmentSummary d : departments) {
+            if (d.id() != null && d.name() != null) {
+                byId.put(d.id(), d.name());
+            }
+        }
+        names = DepartmentNames.of(byId, version);
+        remoteLoaded = true;
+        log.info("Departman adları department-service'ten yenilendi (sürüm={}, {} kayıt)", version, names.size());
+    }
+
+    // Kategori tablosundaki hedef departman adları (department-service erişilemezse yedek)
+    private Map<Long, String> categoryNames() {
+        Map<Long, String> byId = new HashMap<>();
+        for (CategoryEntity c : categoryRepository.findAll()) {
+            if (c.getTargetDepartmentId() != null) {
+                byId.putIfAbsent(c.getTargetDepartmentId(), c.getDisplayName());
+            }
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ticket_service.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Departman id -> ad eşlemesinin değişmez anlık görüntüsü.
+// Anahtarlar sıralı long[] içinde tutulur; arama kutulama yapmadan ikili arama ile yapılır.
+public final class DepartmentNames {
+    static final DepartmentNames EMPTY = new DepartmentNames(new long[0], new String[0], null);
+
+    private final long[] ids;
+    private final String[] names;
+    private final Long version;
+
+    private DepartmentNames(long[] ids, String[] names, Long version) {
+        this.ids = ids;
+        this.names = names;
+        this.version = version;
+    }
+
+    static DepartmentNames of(Map<Long, String> byId, Long version) {
+        TreeMap<Long, String> sorted = new TreeMap<>(byId);
+        long[] ids = new long[sorted.size()];
+        String[] names = new String[sorted.size()];
+        int i = 0;
+        for (Map.Entry<Long, String> e : sorted.entrySet()) {
+            ids[i] = e.getKey();
+            names[i] = e.getValue();
+            i++;
+        }
+        return new DepartmentNames(ids, names, version);
+    }
+
+    // Departman adı; bilinmeyen id için "Departman #id"
+    public String nameOf(Long departmentId) {
+        if (departmentId == null) return null;
+        int idx = Arrays.binarySearch(ids, departmentId);
+        return idx >= 0 ? names[idx] : "Departman #" + departmentId;
+    }
+
+    // department-service sürümü (yalnızca kategori tablosundan yüklendiyse null)
+    Long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.ticket_service.cache;
+
+import com.example.ticket_service.client.PersonClient;
+import com.example.ticket_service.client.PersonSummary;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+// person-service özetleri için boyutu sınırlı, süreli önbellek.
+// Aynı id için eşzamanlı cache miss'ler tek bir person-service çağrısında birleşir (single-flight):
+// eksik anahtarlar için önce bekleyen future yazılır, diğer istekler aynı future'ı bekler.
+@Component
+@Slf4j
+public class PersonDirectory {
+    private final PersonHydrationExecutor hydrationExecutor;
+    private final PersonClient personClient;
+    private final AsyncCache<Long, PersonSummary> cache;
+
+    public PersonDirectory(PersonHydrationExecutor hydrationExecutor,
+                           PersonClient personClient,
+                           MeterRegistry meterRegistry,
+                           @Value("${person.cache.max-size:10000}") long maxSize,
+                           @Value("${person.cache.ttl:5m}") Duration ttl) {
+        this.hydrationExecutor = hydrationExecutor;
+        this.personClient = personClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "person.directory");
+    }
+
+    // Verilen id'lerin özetlerini döner; önbellekte olmayanlar paralel toplu çağrılarla, süre sınırı içinde yüklenir.
+    // person-service'te bulunamayan ya da süresinde gelmeyen id'ler sonuçta yer almaz ve önbelleğe yazılmaz.
+    // Eksik id'ler person-service’e ulaşılamadığı için eksikse sonuç degraded işaretlenir.
+    public PersonLookup getAll(Collection<Long> personIds, String jwtToken) {
+        Set<Long> ids = personIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return PersonLookup.EMPTY;
+        }
+        AtomicBoolean loadDegraded = new AtomicBoolean();
+        try {
+            Map<Long, PersonSummary> persons = cache.getAll(ids, (missing, executor) ->
+                    hydrationExecutor.load(missing, jwtToken).thenApply(r -> {
+                        if (r.degraded()) loadDegraded.set(true);
+                        return r.persons();
+                    })).join();
+            // Eksik id'lerin bir kısmı başka bir isteğin (single-flight) yüklemesinden gelmiş olabilir;
+            // o yüklemenin sonucu bilinmediği için breaker durumuna bakılır.
+            boolean degraded = loadDegraded.get()
+                    || (persons.size() < ids.size() && personClient.isDegraded());
+            return new PersonLookup(persons, degraded);
+        } catch (RuntimeException e) {
+            log.warn("Person önbelleği yüklenemedi ({} id): {}", ids.size(), e.getMessage());
+            return new PersonLookup(Map.of(), true);
+        }
+    }
+
+    // Yalnızca önbellekte hazır olan özetler; person-service'e gidilmez, süren yüklemeler beklenmez.
+    // Eksik id'ler bilinmiyor sayılır (degraded); yazma transaction'ları içinde kullanılır.
+    public PersonLookup getCached(Collection<Long> personIds) {
+        Set<Long> ids = personIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return PersonLookup.EMPTY;
+        }
+        Map<Long, PersonSummary> persons = new HashMap<>();
+        for (Long id : ids) {
+            CompletableFuture<PersonSummary> f = cache.getIfPresent(id);
+            if (f != null && f.isDone() && !f.isCompletedExceptionally()) {
+                PersonSummary p = f.getNow(null);
+                if (p != null) persons.put(id, p);
+            }
+        }
+        return new PersonLookup(persons, persons.size() < ids.size());
+    }
+
+    // person-service breaker'ı kapalı değilse yüklemeler eksik kalabilir
+    public boolean isDegraded() {
+        return personClient.isDegraded();
+    }
+
+    // Actuator için anlık istatistikler
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ticket_service.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GET /actuator/personcache → person önbelleğinin hit/miss/eviction istatistikleri. Web'e varsayılan olarak açık değil
+// (gerekirse management portunda exposure.include'a eklenir); aynı sayılar Prometheus'ta cache_* olarak da var.
+@Component
+@Endpoint(id = "personcache")
+@RequiredArgsConstructor
+public class PersonDirectoryEndpoint {
+    private final PersonDirectory personDirectory;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        CacheStats s = personDirectory.stats();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("size", personDirectory.estimatedSize());
+        out.put("hitCount", s.hitCount());
+        out.put("missCount", s.missCount());
+        out.put("hitRate", s.hitRate());
+        out.put("loadSuccessCount", s.loadSuccessCount());
+        out.put("loadFailureCount", s.loadFailureCount());
+        out.put("evictionCount", s.evictionCount());
+        return out;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ticket_service.cache;
+
+import com.example.ticket_service.client.PersonClient;
+import com.example.ticket_service.client.PersonSummary;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Bir sayfadaki eksik person id'lerini parçalara bölüp person-service'e sanal thread'lerde paralel sorar.
+// Eşzamanlı çağrı sınırı PersonClient’taki bulkhead’dedir; tüm parçalar için tek bir süre sınırı vardır,
+// süresi dolan ya da başarısız olan parçalardaki id'ler sonuçta yer almaz ve sonuç degraded işaretlenir.
+// Süresi dolan parçanın thread'i kesilir (interrupt): sanal thread'de bekleyen soket okuması kapanır, bulkhead izni
+// ve havuzdaki bağlantı beklenen yanıt için tutulmaz.
+// Token parametre olarak taşınır; worker thread'lerde SecurityContextHolder okunmaz.
+@Component
+@Slf4j
+public class PersonHydrationExecutor {
+    private final PersonClient personClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int batchSize;
+    private final Duration timeout;
+
+    public PersonHydrationExecutor(PersonClient personClient,
+                                   @Value("${person.service.batch-size:100}") int batchSize,
+                                   @Value("${person.hydration.timeout:2s}") Duration timeout) {
+        this.personClient = personClient;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+    }
+
+    // Tüm parçalar bittiğinde ya da süre dolduğunda (hangisi önceyse) tamamlanır; hiçbir zaman hata ile bitmez.
+    public CompletableFuture<PersonLookup> load(Collection<? extends Long> personIds, String jwtToken) {
+        List<Long> ids = List.copyOf(personIds);
+        List<CompletableFuture<PersonLookup>> parts = new ArrayList<>();
+        // supplyAsync'in future'ı iptalde çalışan görevi kesmez; kesilebilmesi için executor'ın Future'ı tutulur
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            CompletableFuture<PersonLookup> part = new CompletableFuture<>();
+            tasks.add(executor.submit(() -> part.complete(fetch(chunk, jwtToken))));
+            parts.add(part);
+        }
+
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((ignored, error) -> {
+                    Map<Long, PersonSummary> out = new HashMap<>(ids.size() * 2);
+                    boolean degraded = false;
+                    int late = 0;
+                    for (int i = 0; i < parts.size(); i++) {
+                        CompletableFuture<PersonLookup> part = parts.get(i);
+                        if (part.isDone() && !part.isCompletedExceptionally()) {
+                            PersonLookup r = part.join();
+                            out.putAll(r.persons());
+                            degraded |= r.degraded();
+                        } else {
+                            tasks.get(i).cancel(true);
+                            late++;
+                        }
+                    }
+                    if (late > 0) {
+                        log.warn("Person yüklemesi {} içinde bitmedi: {}/{} parça atlandı", timeout, late, parts.size());
+                    }
+                    return new PersonLookup(out, degraded || late > 0);
+                });
+    }
+
+    // Tek parça: breaker açıksa ya da bulkhead doluysa beklemeden degraded döner
+    private PersonLookup fetch(List<Long> chunk, String jwtToken) {
+        try {
+            return new PersonLookup(personClient.getPersonsByIds(chunk, jwtToken), false);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.debug("Person-service çağrısı yapılmadı ({} id): {}", chunk.size(), e.getMessage());
+            return new PersonLookup(Map.of(), true);
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // Süre doldu, load() parçayı iptal etti (zaten sayıldı)
+                log.debug("Person-service çağrısı süre dolduğu için kesildi ({} id)", chunk.size());
+            } else {
+                log.warn("Person-service toplu çağrısı başarısız oldu ({} id): {}", chunk.size(), e.getMessage());
+            }
+            return new PersonLookup(Map.of(), true);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
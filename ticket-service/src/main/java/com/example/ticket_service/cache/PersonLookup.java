@@ -0,0 +1,10 @@
+package com.example.ticket_service.cache;
+
+import com.example.ticket_service.client.PersonSummary;
+import java.util.Map;
+
+// Person yükleme sonucu: degraded = person-service’e ulaşılamadı / breaker açık / süre doldu,
+// yani eksik id'ler "yok" değil "bilinmiyor" demektir.
+public record PersonLookup(Map<Long, PersonSummary> persons, boolean degraded) {
+    static final PersonLookup EMPTY = new PersonLookup(Map.of(), false);
+}
@@ -0,0 +1,66 @@
+package com.example.ticket_service.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepartmentClient {
+    private static final ParameterizedTypeReference<List<DepartmentSummary>> LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Map<String, Long>> VERSION_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+
+    @Value("${DEPARTMENT_SERVICE_URL}")
+    private String departmentServiceUrl;
+
+    // Silinmemiş tüm departmanlar; hata durumunda null
+    public List<DepartmentSummary> getAllDepartments(String jwtToken) {
+        try {
+            ResponseEntity<List<DepartmentSummary>> response = restTemplate.exchange(
+                    departmentServiceUrl,
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers(jwtToken)),
+                    LIST_TYPE
+            );
+            return response.getBody();
+        } catch (Exception e) {
+            log.warn("Department-service listesi alınamadı: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Departman listesinin sürümü; hata durumunda null
+    public Long getVersion(String jwtToken) {
+        try {
+            ResponseEntity<Map<String, Long>> response = restTemplate.exchange(
+                    departmentServiceUrl + "version",
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers(jwtToken)),
+                    VERSION_TYPE
+            );
+            return response.getBody() != null ? response.getBody().get("version") : null;
+        } catch (Exception e) {
+            log.warn("Department-service sürümü alınamadı: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private HttpHeaders headers(String jwtToken) {
+        HttpHeaders headers = new HttpHeaders();
+        if (jwtToken != null) {
+            headers.setBearerAuth(jwtToken);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.ticket_service.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// department-service'ten ad çözümlemesi için gereken alanlar
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record DepartmentSummary(
+        Long id,
+        String name
+) {}
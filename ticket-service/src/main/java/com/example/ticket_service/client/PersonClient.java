@@ -0,0 +1,76 @@
+package com.example.ticket_service.client;
+
+import com.example.ticket_service.security.jwt.ServiceToken;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import java.util.*;
+
+// person-service istemcisi. Çağrılar "personService" bulkhead’i (eşzamanlı çağrı sınırı) ve
+// circuit breaker’ı (hata / yavaş çağrı oranı) içinden geçer; ayarlar application.yml > resilience4j altında.
+// Kullanıcı token'ı olmayan çağrılar (arka plan işleri) servisler arası token'la yapılır.
+@Service
+@Slf4j
+public class PersonClient {
+    public static final String RESILIENCE_NAME = "personService";
+
+    private static final ParameterizedTypeReference<Map<Long, PersonSummary>> BATCH_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ServiceToken serviceToken;
+
+    @Value("${PERSON_SERVICE_URL}")
+    private String personServiceUrl;
+
+    public PersonClient(RestTemplate restTemplate,
+                        CircuitBreakerRegistry circuitBreakerRegistry,
+                        BulkheadRegistry bulkheadRegistry,
+                        ServiceToken serviceToken) {
+        this.restTemplate = restTemplate;
+        this.serviceToken = serviceToken;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_NAME);
+    }
+
+    // Verilen id'leri tek POST /api/persons/batch çağrısıyla çözer (id -> person).
+    // person-service en fazla 1000 id kabul eder; parçalara bölme PersonHydrationExecutor'dadır.
+    // Hata fırlatır: breaker açıksa CallNotPermittedException, bulkhead doluysa BulkheadFullException,
+    // aksi halde RestTemplate hatası (breaker bunları sayar).
+    public Map<Long, PersonSummary> getPersonsByIds(List<Long> ids, String jwtToken) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        // Breaker dışta: açıkken bulkhead izni bile istenmez
+        return CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, () -> fetch(ids, jwtToken))).get();
+    }
+
+    // Breaker kapalı değilse (OPEN / HALF_OPEN / FORCED_OPEN) person bilgisi eksik gelebilir
+    public boolean isDegraded() {
+        return circuitBreaker.getState() != CircuitBreaker.State.CLOSED;
+    }
+
+    private Map<Long, PersonSummary> fetch(List<Long> ids, String jwtToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(jwtToken != null ? jwtToken : serviceToken.get());
+
+        ResponseEntity<Map<Long, PersonSummary>> response = restTemplate.exchange(
+                personServiceUrl + "batch",
+                HttpMethod.POST,
+                new HttpEntity<>(ids, headers),
+                BATCH_TYPE
+        );
+        return response.getBody() != null ? response.getBody() : Map.of();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.ticket_service.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// person-service'ten ticket ekranları için gereken özet alanlar
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PersonSummary(
+        Long id,
+        String email,
+        String name,
+        String surname
+) {}
@@ -0,0 +1,33 @@
+package com.example.ticket_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+// Uç bazında async süre sınırı. Uzun süren akış (StreamingResponseBody) dönen bir uç isteğe TIMEOUT_ATTRIBUTE
+// niteliğini koyarsa iş, global spring.mvc.async.request-timeout yerine o süreyle çalışır; diğer async uçlar
+// global sınırda kalır.
+@Configuration
+public class AsyncTimeoutConfig implements WebMvcConfigurer {
+    public static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutConfig.class.getName() + ".timeout";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // Async işlem başlamadan (startAsync) önce çağrılır; süre o anda servlet'e aktarılır
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeout instanceof Duration d && request instanceof AsyncWebRequest asyncRequest) {
+                    asyncRequest.setTimeout(d.toMillis());
+                }
+            }
+        });
+    }
+}
@@ -1,20 +1,86 @@
 package com.example.ticket_service.controller;
 
-import com.example.ticket_service.dto.response.TicketResponse;
+import com.example.ticket_service.config.AsyncTimeoutConfig;
+import com.example.ticket_service.dto.response.TicketIntakeDeadLetter;
+import com.example.ticket_service.dto.response.TicketPage;
+import com.example.ticket_service.dto.response.TicketViewRebuildStatus;
+import com.example.ticket_service.intake.PublicTicketQueue;
+import com.example.ticket_service.service.TicketExportService;
 import com.example.ticket_service.service.TicketService;
+import com.example.ticket_service.service.TicketViewService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/admin/tickets")
 @RequiredArgsConstructor
 public class AdminTicketController {
     private final TicketService ticketService;
+    private final TicketViewService ticketViewService;
+    private final TicketExportService ticketExportService;
+    private final PublicTicketQueue publicTicketQueue;
 
+    // Dışa aktarım akışının süre sınırı (diğer async uçlar spring.mvc.async.request-timeout'ta kalır)
+    @Value("${ticket.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    // Keyset sayfalı liste: ilk sayfa için cursor gönderilmez, sonraki sayfa için dönen nextCursor iletilir
     @GetMapping
-    public ResponseEntity<List<TicketResponse>> all() {
-        return ResponseEntity.ok(ticketService.listAllTickets());
+    public ResponseEntity<TicketPage> all(@RequestParam(name = "cursor", required = false) String cursor,
+                                          @RequestParam(name = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(ticketService.listAllTickets(cursor, size));
+    }
+
+    // ticket_view okuma modelini arka planda baştan üretir (person/departman adları değiştiğinde eşitlemek için);
+    // hemen 202 döner, ilerleme GET /view/rebuild ile izlenir
+    @PostMapping("/view/rebuild")
+    public ResponseEntity<TicketViewRebuildStatus> rebuildView() {
+        return ResponseEntity.accepted().body(ticketViewService.startRebuild());
+    }
+
+    @GetMapping("/view/rebuild")
+    public ResponseEntity<TicketViewRebuildStatus> rebuildViewStatus() {
+        return ResponseEntity.ok(ticketViewService.rebuildStatus());
+    }
+
+    // Alım kuyruğunda tekrar denemelere rağmen yazılamayan öğeler (en yeni önce, en fazla 500)
+    @GetMapping("/intake/dead-letters")
+    public ResponseEntity<List<TicketIntakeDeadLetter>> intakeDeadLetters(@RequestParam(name = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(publicTicketQueue.deadLetters(Math.clamp(size, 1, 500)));
+    }
+
+    // Tüm ticket geçmişini akış halinde dışa aktarır (format=ndjson | csv); liste bellekte kurulmaz
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                        HttpServletRequest request) {
+        TicketExportService.Format f;
+        try {
+            f = TicketExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Geçersiz format (ndjson | csv): " + format);
+        }
+        MediaType type = f == TicketExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+        String fileName = "tickets." + f.name().toLowerCase(Locale.ROOT);
+
+        request.setAttribute(AsyncTimeoutConfig.TIMEOUT_ATTRIBUTE, exportTimeout);
+        StreamingResponseBody body = out -> ticketExportService.export(f, out);
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
     }
 }
@@ -1,16 +1,20 @@
 package com.example.ticket_service.controller;
 
 import com.example.ticket_service.dto.request.InternalTicketRequest;
+import com.example.ticket_service.dto.response.DepartmentPoolResponse;
+import com.example.ticket_service.dto.response.TicketPage;
 import com.example.ticket_service.dto.response.TicketResponse;
+import com.example.ticket_service.event.PoolEventBroadcaster;
 import com.example.ticket_service.service.TicketService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/departments")
@@ -19,6 +23,7 @@ import java.util.List;
 public class DepartmentTicketController {
 
     private final TicketService ticketService;
+    private final PoolEventBroadcaster poolEventBroadcaster;
 
     private void logAuth(String action) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -32,9 +37,28 @@ public class DepartmentTicketController {
     // === Departmanın tüm ticketları ===
     @PreAuthorize("hasAnyRole('PERSON','ADMIN')")
     @GetMapping("/{deptId}/tickets")
-    public ResponseEntity<List<TicketResponse>> ticketsByDepartment(@PathVariable Long deptId) {
+    public ResponseEntity<TicketPage> ticketsByDepartment(@PathVariable Long deptId,
+                                                          @RequestParam(name = "cursor", required = false) String cursor,
+                                                          @RequestParam(name = "size", defaultValue = "50") int size) {
         logAuth("ticketsByDepartment deptId=" + deptId);
-        return ResponseEntity.ok(ticketService.listTicketsByDepartment(deptId));
+        return ResponseEntity.ok(ticketService.listTicketsByDepartment(deptId, cursor, size));
+    }
+
+    // === Departman havuzu (açık + üstlenilmiş) ===
+    @PreAuthorize("hasAnyRole('PERSON','ADMIN')")
+    @GetMapping("/{deptId}/pool")
+    public ResponseEntity<DepartmentPoolResponse> pool(@PathVariable Long deptId) {
+        logAuth("pool deptId=" + deptId);
+        return ResponseEntity.ok(ticketService.getDepartmentPool(deptId));
+    }
+
+    // === Departman havuzu değişiklikleri (SSE) ===
+    // Olaylar: TICKET_CREATED, TICKET_TAKEN, TICKET_REASSIGNED, TICKET_CLOSED; istemci olay gelince havuzu tazeler
+    @PreAuthorize("hasAnyRole('PERSON','ADMIN')")
+    @GetMapping(value = "/{deptId}/pool/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter poolEvents(@PathVariable Long deptId) {
+        logAuth("poolEvents deptId=" + deptId);
+        return poolEventBroadcaster.subscribe(deptId);
     }
 
     // === Ticket üstlenme ===
@@ -75,22 +99,28 @@ public class DepartmentTicketController {
     // === Kullanıcının kendi listeleri ===
     @PreAuthorize("hasAnyRole('PERSON','ADMIN')")
     @GetMapping("/me/assigned")
-    public ResponseEntity<List<TicketResponse>> myAssigned(@RequestParam(name = "personId") Long personId) {
+    public ResponseEntity<TicketPage> myAssigned(@RequestParam(name = "personId") Long personId,
+                                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                                 @RequestParam(name = "size", defaultValue = "50") int size) {
         logAuth("myAssigned personId=" + personId);
-        return ResponseEntity.ok(ticketService.listMyAssigned(personId));
+        return ResponseEntity.ok(ticketService.listMyAssigned(personId, cursor, size));
     }
 
     @PreAuthorize("hasAnyRole('PERSON','ADMIN')")
     @GetMapping("/me/closed")
-    public ResponseEntity<List<TicketResponse>> myClosed(@RequestParam(name = "personId") Long personId) {
+    public ResponseEntity<TicketPage> myClosed(@RequestParam(name = "personId") Long personId,
+                                               @RequestParam(name = "cursor", required = false) String cursor,
+                                               @RequestParam(name = "size", defaultValue = "50") int size) {
         logAuth("myClosed personId=" + personId);
-        return ResponseEntity.ok(ticketService.listMyClosed(personId));
+        return ResponseEntity.ok(ticketService.listMyClosed(personId, cursor, size));
     }
 
     @PreAuthorize("hasAnyRole('PERSON','ADMIN')")
     @GetMapping("/me/transferred")
-    public ResponseEntity<List<TicketResponse>> myTransferred(@RequestParam(name = "personId") Long personId) {
+    public ResponseEntity<TicketPage> myTransferred(@RequestParam(name = "personId") Long personId,
+                                                    @RequestParam(name = "cursor", required = false) String cursor,
+                                                    @RequestParam(name = "size", defaultValue = "50") int size) {
         logAuth("myTransferred personId=" + personId);
-        return ResponseEntity.ok(ticketService.listMyTransferred(personId));
+        return ResponseEntity.ok(ticketService.listMyTransferred(personId, cursor, size));
     }
 }
@@ -1,21 +1,70 @@
 package com.example.ticket_service.controller;
 
 import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.example.ticket_service.dto.response.TicketBatchResponse;
+import com.example.ticket_service.dto.response.TicketIntakeStatus;
 import com.example.ticket_service.dto.response.TicketResponse;
+import com.example.ticket_service.intake.IntakeRateLimiter;
+import com.example.ticket_service.intake.PublicTicketQueue;
+import com.example.ticket_service.security.jwt.JwtPrincipal;
+import com.example.ticket_service.service.TicketIntakeService;
 import com.example.ticket_service.service.TicketService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/tickets/public")
 @RequiredArgsConstructor
 public class PublicTicketController {
     private final TicketService ticketService;
+    private final TicketIntakeService ticketIntakeService;
+    private final PublicTicketQueue publicTicketQueue;
+    private final IntakeRateLimiter intakeRateLimiter;
 
+    // "Prefer: respond-async" (RFC 7240) gönderilirse istek DB'ye gitmeden kuyruğa alınır ve 202 + takip token'ı
+    // döner (yoğun günlerde hızlı kabul); durum Location'daki uçtan izlenir
     @PostMapping
-    public ResponseEntity<TicketResponse> create(@Valid @RequestBody PublicTicketRequest req) {
+    public ResponseEntity<?> create(@Valid @RequestBody PublicTicketRequest req,
+                                    @RequestHeader(value = "Prefer", required = false) String prefer) {
+        if (prefer != null && prefer.toLowerCase(Locale.ROOT).contains("respond-async")) {
+            TicketIntakeStatus status = publicTicketQueue.accept(req);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/tickets/public/intake/" + status.token()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(status);
+        }
         return ResponseEntity.ok(ticketService.createPublicTicket(req));
     }
+
+    // Kuyruğa alınmış ticket'ın durumu (ACCEPTED / CREATED / FAILED / DEAD_LETTER)
+    @GetMapping("/intake/{token}")
+    public ResponseEntity<TicketIntakeStatus> intakeStatus(@PathVariable String token) {
+        return publicTicketQueue.status(token)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Alım kaydı bulunamadı"));
+    }
+
+    // Entegrasyonlar (e-posta geçidi, iş ortağı portalı) için toplu oluşturma; öğeler tek tek doğrulanır,
+    // sonuç istek sırasıyla öğe bazında döner (en fazla ticket.intake.max-batch-size öğe).
+    // Public değildir: INTEGRATION (ya da ADMIN) rolü ister ve istemci başına hız sınırlıdır (aşılırsa 429).
+    @PostMapping("/batch")
+    public ResponseEntity<TicketBatchResponse> createBatch(@RequestBody List<PublicTicketRequest> requests,
+                                                           @AuthenticationPrincipal JwtPrincipal client) {
+        long retryAfter = intakeRateLimiter.tryAcquire(client.subject(), requests.size());
+        if (retryAfter > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter))
+                    .build();
+        }
+        return ResponseEntity.ok(ticketIntakeService.createPublicTickets(requests));
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.ticket_service.controller;
+
+import com.example.ticket_service.dto.response.TicketSearchResponse;
+import com.example.ticket_service.service.TicketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tickets/search")
+@RequiredArgsConstructor
+public class TicketSearchController {
+    private final TicketService ticketService;
+
+    // Tam metin arama: q Türkçe karakterli ya da karaktersiz yazılabilir ("işlem" = "islem");
+    // active verilmezse açık ve kapalı ticketların hepsinde aranır
+    @PreAuthorize("hasAnyRole('PERSON','ADMIN')")
+    @GetMapping
+    public ResponseEntity<TicketSearchResponse> search(@RequestParam("q") String q,
+                                                       @RequestParam(name = "active", required = false) Boolean active,
+                                                       @RequestParam(name = "page", defaultValue = "0") int page,
+                                                       @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(ticketService.searchTickets(q, active, page, size));
+    }
+}
@@ -1,17 +1,16 @@
 package com.example.ticket_service.controller;
 
 import com.example.ticket_service.dto.request.UserTicketRequest;
+import com.example.ticket_service.dto.response.TicketPage;
 import com.example.ticket_service.dto.response.TicketResponse;
-import com.example.ticket_service.security.jwt.JwtUtil;
+import com.example.ticket_service.security.jwt.JwtPrincipal;
 import com.example.ticket_service.service.TicketService;
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/user-panel")
@@ -19,15 +18,12 @@ import java.util.List;
 @Slf4j
 public class UserTicketController {
     private final TicketService ticketService;
-    private final JwtUtil jwtUtil;
     // USER ticket açar
     @PreAuthorize("hasRole('USER')")
     @PostMapping("/tickets")
     public ResponseEntity<TicketResponse> create(@RequestBody UserTicketRequest req,
-                                                 Authentication auth) {
-        String token = (String) auth.getCredentials();
-        Claims claims = jwtUtil.parse(token);
-        Long personId = claims.get("personId", Long.class);
+                                                 @AuthenticationPrincipal JwtPrincipal principal) {
+        Long personId = principal.personId();
         log.info("➡️ USER ticket açıyor personId={}", personId);
         return ResponseEntity.ok(
                 ticketService.createUserTicket(req.issue(), req.priority(), req.categoryId(), personId)
@@ -36,11 +32,11 @@ public class UserTicketController {
     // USER kendi açtığı ticketları görür
     @PreAuthorize("hasRole('USER')")
     @GetMapping("/tickets")
-    public ResponseEntity<List<TicketResponse>> myTickets(Authentication auth) {
-        String token = (String) auth.getCredentials();
-        Claims claims = jwtUtil.parse(token);
-        Long personId = claims.get("personId", Long.class);
+    public ResponseEntity<TicketPage> myTickets(@AuthenticationPrincipal JwtPrincipal principal,
+                                                @RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(name = "size", defaultValue = "50") int size) {
+        Long personId = principal.personId();
         log.info("➡️ USER ticket listesi personId={}", personId);
-        return ResponseEntity.ok(ticketService.listMyTicketsByPerson(personId));
+        return ResponseEntity.ok(ticketService.listMyTicketsByPerson(personId, cursor, size));
     }
 }
@@ -0,0 +1,34 @@
+package com.example.ticket_service.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Keyset sayfalama imleci: listeler (createdDate DESC, ticketId DESC) sıralıdır,
+// bir sonraki sayfa son satırın (createdDate, ticketId) çiftinden küçük olanlarla başlar.
+public record TicketCursor(LocalDateTime createdDate, Long ticketId) {
+
+    // İlk sayfa: tüm kayıtlardan büyük bir sınır (DATETIME2 üst sınırı)
+    public static final TicketCursor FIRST =
+            new TicketCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    // İstemciden gelen imleci çözer; boşsa ilk sayfa
+    public static TicketCursor parse(String value) {
+        if (value == null || value.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new TicketCursor(LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci");
+        }
+    }
+
+    // URL-güvenli, opak imleç metni
+    public String encode() {
+        String raw = createdDate + "|" + ticketId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ticket_service.dto.response;
+
+import lombok.Builder;
+import java.util.List;
+
+// Departman havuzu: üstlenilmeyi bekleyenler ve üzerinde çalışılanlar (öncelik, sonra yaş sıralı).
+// Her bölüm en fazla ticket.pool.max-size ticket içerir; bölümlerden biri kesildiyse truncated true olur.
+@Builder
+public record DepartmentPoolResponse(
+        Long departmentId,
+        List<TicketResponse> open,
+        List<TicketResponse> inProgress,
+        boolean truncated
+) {}
@@ -0,0 +1,24 @@
+package com.example.ticket_service.dto.response;
+
+import lombok.Builder;
+import java.util.List;
+
+// Toplu ticket alımı sonucu: items istek sırasıyla, her öğe için oluşan ticket ya da hata
+@Builder
+public record TicketBatchResponse(
+        int total,
+        int created,
+        int failed,
+        List<Item> items
+) {
+    public record Item(int index, Long ticketId, Long departmentId, String error) {
+
+        public static Item created(int index, Long ticketId, Long departmentId) {
+            return new Item(index, ticketId, departmentId, null);
+        }
+
+        public static Item failed(int index, String error) {
+            return new Item(index, null, null, error);
+        }
+    }
+}
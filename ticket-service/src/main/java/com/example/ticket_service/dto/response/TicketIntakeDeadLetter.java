@@ -0,0 +1,15 @@
+package com.example.ticket_service.dto.response;
+
+import com.example.ticket_service.dto.request.PublicTicketRequest;
+import lombok.Builder;
+import java.time.LocalDateTime;
+
+// Tekrar denemelere rağmen yazılamayan kuyruk öğesi: son hata ve incelenip yeniden gönderilebilecek istek
+@Builder
+public record TicketIntakeDeadLetter(
+        String token,
+        LocalDateTime acceptedDate,
+        LocalDateTime processedDate,
+        String error,
+        PublicTicketRequest request
+) {}
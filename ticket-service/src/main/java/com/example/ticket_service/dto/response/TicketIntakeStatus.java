@@ -0,0 +1,19 @@
+package com.example.ticket_service.dto.response;
+
+import java.time.LocalDateTime;
+
+// Asenkron alınan ticket'ın durumu: ACCEPTED (kuyrukta), CREATED (ticketId dolu), FAILED (doğrulamadan geçmedi,
+// error dolu) ya da DEAD_LETTER (tekrar denemelere rağmen yazılamadı, error dolu; incelenmeyi bekler)
+public record TicketIntakeStatus(
+        String token,
+        State state,
+        LocalDateTime acceptedDate,
+        Long ticketId,
+        String error
+) {
+    public enum State { ACCEPTED, CREATED, FAILED, DEAD_LETTER }
+
+    public static TicketIntakeStatus accepted(String token, LocalDateTime acceptedDate) {
+        return new TicketIntakeStatus(token, State.ACCEPTED, acceptedDate, null, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.ticket_service.dto.response;
+
+import lombok.Builder;
+import java.util.List;
+
+// Keyset sayfası: nextCursor null ise son sayfadır
+@Builder
+public record TicketPage(
+        List<TicketResponse> items,
+        String nextCursor
+) {}
@@ -46,5 +46,8 @@ public record TicketResponse(
         Long fromDepartmentId,
         String fromDepartmentName,
         Long toDepartmentId,
-        String toDepartmentName
+        String toDepartmentName,
+
+        // person-service’e ulaşılamadığında person alanları boş döner ve bu bayrak true olur
+        Boolean degraded
 ) {}
@@ -0,0 +1,13 @@
+package com.example.ticket_service.dto.response;
+
+import lombok.Builder;
+import java.util.List;
+
+// Arama sonucu sayfası: items alaka sırasına göre; totalHits toplam eşleşme sayısıdır
+@Builder
+public record TicketSearchResponse(
+        List<TicketResponse> items,
+        long totalHits,
+        int page,
+        int size
+) {}
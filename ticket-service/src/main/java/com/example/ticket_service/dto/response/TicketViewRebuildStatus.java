@@ -0,0 +1,18 @@
+package com.example.ticket_service.dto.response;
+
+import lombok.Builder;
+import java.time.LocalDateTime;
+
+// ticket_view yeniden oluşturma işinin durumu: rebuilt o ana kadar yazılan satır sayısı, FAILED ise error dolu
+@Builder(toBuilder = true)
+public record TicketViewRebuildStatus(
+        State state,
+        int rebuilt,
+        LocalDateTime startedDate,
+        LocalDateTime finishedDate,
+        String error
+) {
+    public enum State { IDLE, RUNNING, COMPLETED, FAILED }
+
+    public static final TicketViewRebuildStatus IDLE = TicketViewRebuildStatus.builder().state(State.IDLE).build();
+}
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @Table(name = "ticket_assignments")
 public class TicketAssignmentEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_assignments_seq")
+    @SequenceGenerator(name = "ticket_assignments_seq", sequenceName = "ticket_assignments_seq", allocationSize = 50)
     @Column(name = "assignment_id")
     private Long id;
 
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @Table(name = "tickets")
 public class TicketEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequence (pooled, 50'lik blok; bkz. V16): id INSERT'ten önce bilinir, INSERT'ler JDBC batch ile gider
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tickets_seq")
+    @SequenceGenerator(name = "tickets_seq", sequenceName = "tickets_seq", allocationSize = 50)
     @Column(name = "ticket_id")
     private Long id;
 
@@ -40,4 +42,17 @@ public class TicketEntity {
 
     @Column(name = "creator_person_id")
     private Long creatorPersonId;
+
+    // === Anlık atama (ticket_assignments’ın özeti, aynı transaction’da güncellenir) ===
+    @Column(name = "current_status")
+    private String currentStatus;
+
+    @Column(name = "current_department_id")
+    private Long currentDepartmentId;
+
+    @Column(name = "current_person_id")
+    private Long currentPersonId;
+
+    @Column(name = "last_transfer_department_id")
+    private Long lastTransferDepartmentId;
 }
@@ -0,0 +1,61 @@
+package com.example.ticket_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDateTime;
+
+// Asenkron alınan bir ticket'ın işlenme sonucu (ticketId ya da error dolu). Tekrar denemelere rağmen
+// yazılamayan öğe dead-letter işaretlenir ve istek gövdesi payload'da saklanır.
+// Token uygulamada üretildiği için Persistable: saveAll() yeni satırda SELECT yapmadan INSERT eder.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "ticket_intake")
+public class TicketIntakeEntity implements Persistable<String> {
+    @Id
+    @Column(name = "intake_token")
+    private String token;
+
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "accepted_date")
+    private LocalDateTime acceptedDate;
+
+    @Column(name = "processed_date")
+    private LocalDateTime processedDate;
+
+    @Column(name = "is_dead_letter")
+    @Builder.Default
+    private Boolean deadLetter = false;
+
+    @Column(name = "payload")
+    private String payload;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return token;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
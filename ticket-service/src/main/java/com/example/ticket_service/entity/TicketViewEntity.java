@@ -0,0 +1,100 @@
+package com.example.ticket_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+// Okuma modeli: ticket + müşteri + person adları + departman adları tek satırda.
+// Ticket’a her yazmada TicketViewService tarafından güncellenir.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ticket_view")
+public class TicketViewEntity {
+    @Id
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    // === Müşteri ===
+    @Column(name = "customer_email")
+    private String customerEmail;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "customer_surname")
+    private String customerSurname;
+
+    @Column(name = "customer_phone")
+    private String customerPhone;
+
+    // === Oluşturan çalışan ===
+    @Column(name = "creator_person_id")
+    private Long creatorPersonId;
+
+    @Column(name = "creator_person_email")
+    private String creatorPersonEmail;
+
+    @Column(name = "creator_person_name")
+    private String creatorPersonName;
+
+    @Column(name = "creator_person_surname")
+    private String creatorPersonSurname;
+
+    // === Ticket ===
+    @Column(name = "issue")
+    private String issue;
+
+    @Column(name = "priority")
+    private String priority;
+
+    @Column(name = "is_active")
+    private Boolean active;
+
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+
+    @Column(name = "closed_date")
+    private LocalDateTime closedDate;
+
+    @Column(name = "is_employee")
+    private Boolean employee;
+
+    // === Anlık atama ===
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name")
+    private String departmentName;
+
+    @Column(name = "assignee_person_id")
+    private Long assigneePersonId;
+
+    @Column(name = "assignee_email")
+    private String assigneeEmail;
+
+    @Column(name = "assignee_name")
+    private String assigneeName;
+
+    @Column(name = "assignee_surname")
+    private String assigneeSurname;
+
+    // === Son devir ===
+    @Column(name = "from_department_id")
+    private Long fromDepartmentId;
+
+    @Column(name = "from_department_name")
+    private String fromDepartmentName;
+
+    // Yazıldığı anda person-service’e ulaşılamadı; person alanları eksik olabilir (rebuild ile tamamlanır)
+    @Column(name = "is_degraded")
+    private Boolean degraded;
+
+    @Column(name = "refreshed_date")
+    private LocalDateTime refreshedDate;
+}
@@ -0,0 +1,144 @@
+package com.example.ticket_service.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+// Departman başına SSE aboneleri. Her abonenin sınırlı bir kuyruğu ve onu boşaltan bir sanal thread'i vardır;
+// yavaş istemci kuyruğu doldurursa bağlantısı kapatılır (istemci yeniden bağlanıp listeyi tazeler),
+// böylece tek bir yavaş abone diğerlerini ya da yazma işlemini bekletmez.
+// Belirli aralıklarla heartbeat (SSE yorumu) gönderilir; ölü bağlantılar bu sırada düşer.
+@Component
+@Slf4j
+public class PoolEventBroadcaster {
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "pool-sse-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+    private final int bufferSize;
+    private final Duration timeout;
+
+    public PoolEventBroadcaster(@Value("${ticket.pool.events.buffer-size:64}") int bufferSize,
+                                @Value("${ticket.pool.events.heartbeat:15s}") Duration heartbeat,
+                                @Value("${ticket.pool.events.timeout:30m}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        heartbeats.scheduleAtFixedRate(this::heartbeat,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Yeni abone: "ready" olayı ile başlar, ardından departmana ait olaylar akar
+    public SseEmitter subscribe(Long deptId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber s = new Subscriber(deptId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.computeIfAbsent(deptId, k -> ConcurrentHashMap.newKeySet()).add(s);
+
+        emitter.onCompletion(() -> remove(s));
+        emitter.onTimeout(() -> close(s));
+        emitter.onError(e -> close(s));
+
+        s.queue.offer(SseEmitter.event().name("ready").data(Map.of("departmentId", deptId)).build());
+        s.sender = senders.submit(() -> drain(s));
+        if (s.closed) s.sender.cancel(true);
+        log.debug("Havuz SSE abonesi eklendi dept={} (toplam {})", deptId, subscribers.get(deptId).size());
+        return emitter;
+    }
+
+    // Yalnızca commit edilen değişiklikler yayınlanır (rollback olan yazmalar istemciye gitmez)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPoolEvent(TicketPoolEvent event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> items = SseEmitter.event()
+                .name(event.type().name())
+                .id(String.valueOf(event.ticketId()))
+                .data(event)
+                .build();
+        publish(event.departmentId(), items);
+        if (event.fromDepartmentId() != null && !event.fromDepartmentId().equals(event.departmentId())) {
+            publish(event.fromDepartmentId(), items);
+        }
+    }
+
+    private void publish(Long deptId, Set<ResponseBodyEmitter.DataWithMediaType> items) {
+        if (deptId == null) return;
+        Set<Subscriber> set = subscribers.get(deptId);
+        if (set == null) return;
+        for (Subscriber s : set) {
+            if (!s.queue.offer(items)) {
+                log.warn("Havuz SSE abonesi yetişemiyor, bağlantı kapatılıyor dept={}", deptId);
+                close(s);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(s -> {
+            if (!s.queue.offer(ping)) close(s);
+        }));
+    }
+
+    // Abone kuyruğunu sırayla gönderir; gönderim hatasında (istemci gitti) abone düşer
+    private void drain(Subscriber s) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                s.emitter.send(s.queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            remove(s);
+        }
+    }
+
+    private void close(Subscriber s) {
+        remove(s);
+        try {
+            s.emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // zaten tamamlanmış
+        }
+    }
+
+    private void remove(Subscriber s) {
+        s.closed = true;
+        Set<Subscriber> set = subscribers.get(s.deptId);
+        if (set != null) set.remove(s);
+        Future<?> sender = s.sender;
+        if (sender != null) sender.cancel(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        final Long deptId;
+        final SseEmitter emitter;
+        final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        volatile Future<?> sender;
+        volatile boolean closed;
+
+        Subscriber(Long deptId, SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.deptId = deptId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
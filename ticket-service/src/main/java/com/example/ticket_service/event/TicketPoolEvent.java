@@ -0,0 +1,25 @@
+package com.example.ticket_service.event;
+
+import java.time.LocalDateTime;
+
+// Departman havuzunu değiştiren ticket olayı; commit sonrası SSE aboneliklerine iletilir.
+// fromDepartmentId yalnızca devirde dolu olur (olay iki departmana da gider).
+public record TicketPoolEvent(
+        Type type,
+        Long ticketId,
+        Long departmentId,
+        Long fromDepartmentId,
+        String status,
+        Long personId,
+        LocalDateTime at
+) {
+    public enum Type {
+        TICKET_CREATED, TICKET_TAKEN, TICKET_REASSIGNED, TICKET_CLOSED
+    }
+
+    public static TicketPoolEvent of(Type type, Long ticketId, Long departmentId,
+                                     Long fromDepartmentId, String status, Long personId) {
+        return new TicketPoolEvent(type, ticketId, departmentId, fromDepartmentId, status, personId,
+                LocalDateTime.now());
+    }
+}
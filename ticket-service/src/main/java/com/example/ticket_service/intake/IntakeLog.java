@@ -0,0 +1,314 @@
+package com.example.ticket_service.intake;
+
+import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Asenkron ticket alımının yerel write-ahead log'u. Kayıtlar segment dosyalarına satır başına bir JSON olarak
+// eklenir; append() kayıt diske inmeden (fsync) dönmez. fsync'ler gruplanır: aynı anda bekleyen yazarlar tek
+// force() ile kalıcı olur, yük arttıkça fsync başına düşen kayıt da artar.
+// Kayıt tüketiciye (onDurable, log sırasıyla) ancak kalıcı olduktan sonra verilir. fsync başarısız olursa
+// kalıcılığı bilinmeyen kayıtlar atılır: yazarları hata alır, segment son kalıcı kayda kadar kesilir (açılışta
+// geri okunmasınlar) ve yazma yeni segmentte sürer.
+// İşlenmiş konum checkpoint dosyasında tutulur; açılışta checkpoint sonrasındaki kayıtlar geri okunur ve
+// tamamen işlenmiş segmentler silinir.
+@Slf4j
+final class IntakeLog implements Closeable {
+    private static final String SUFFIX = ".log";
+    private static final String CHECKPOINT = "checkpoint";
+
+    record Record(String token, LocalDateTime acceptedDate, PublicTicketRequest request) {}
+
+    // Kaydın bittiği yer (segment numarası, segment içi bayt); checkpoint bu konuma kadar işlenmiş demektir
+    record Position(long segment, long offset) {}
+
+    record Entry(Record record, Position end) {}
+
+    // fsync bekleyen kayıt ve ekleme sırası
+    private record Unsynced(long seq, Entry entry) {}
+
+    private final Path dir;
+    private final ObjectMapper objectMapper;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final Consumer<Entry> onDurable;
+    private final Queue<Unsynced> unsynced = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Object syncLock = new Object();
+
+    private volatile FileChannel channel;
+    private long segment;
+    private long size;
+    private volatile long appended;
+    private long synced;
+    // Tüketiciye verilen son kaydın sonu ve atılan (fsync'i başarısız) son kaydın sırası
+    private Position syncedEnd = new Position(-1, 0);
+    private long discarded;
+    private boolean failed;
+
+    IntakeLog(Path dir, ObjectMapper objectMapper, long segmentBytes, boolean fsync,
+              Consumer<Entry> onDurable) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.objectMapper = objectMapper;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.onDurable = onDurable;
+    }
+
+    // Checkpoint'ten sonraki kayıtları sırayla döner ve yazma için yeni bir segment açar.
+    // Çökme anında yarım kalmış son satır (satır sonu yok) yok sayılır.
+    List<Entry> recover() throws IOException {
+        Position checkpoint = readCheckpoint();
+        List<Entry> entries = new ArrayList<>();
+        long last = checkpoint.segment();
+        for (long seg : segments()) {
+            last = Math.max(last, seg);
+            if (seg < checkpoint.segment()) {
+                Files.deleteIfExists(segmentPath(seg));
+                continue;
+            }
+            readSegment(seg, seg == checkpoint.segment() ? checkpoint.offset() : 0, entries);
+        }
+        openSegment(last + 1);
+        return entries;
+    }
+
+    // Kaydı sona ekler ve kalıcı olunca (tüketiciye verildikten sonra) döner
+    void append(Record record) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(record);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        long seq;
+        appendLock.lock();
+        try {
+            if (size > 0 && size + line.remaining() > segmentBytes) {
+                roll();
+            }
+            try {
+                size += writeFully(channel, line);
+            } catch (IOException e) {
+                // Yarım yazılmış satırın arkasına ekleme yapılmasın: sonraki kayıtlar yeni segmente
+                roll();
+                throw e;
+            }
+            seq = appended + 1;
+            Entry entry = new Entry(record, new Position(segment, size));
+            if (fsync) {
+                // appended'dan önce: force'u yapan yazar hedefe kadar olan her kaydı kuyrukta bulur
+                unsynced.add(new Unsynced(seq, entry));
+            } else {
+                onDurable.accept(entry);
+            }
+            appended = seq;
+        } finally {
+            appendLock.unlock();
+        }
+        if (fsync) {
+            sync(seq);
+        }
+    }
+
+    // Grup commit: force() sürerken gelen yazarlar bir sonrakini bekler; o force kendilerini de kapsar.
+    // force() hata verirse sonraki bir force'un başarısı o kayıtların diske indiğini göstermez (sayfa önbelleği
+    // hatayı bir kez bildirir); bu yüzden kalıcı olmayan kayıtlar tüketiciye verilmeden atılır
+    private void sync(long seq) throws IOException {
+        while (true) {
+            synchronized (syncLock) {
+                if (seq <= discarded) {
+                    throw new IOException("Alım kaydı diske yazılamadı (fsync başarısız)");
+                }
+                if (synced >= seq) {
+                    return;
+                }
+                if (!failed) {
+                    long target = appended;
+                    try {
+                        channel.force(false);
+                        publish(target);
+                        return;
+                    } catch (IOException e) {
+                        log.error("Alım log'u fsync başarısız, kalıcı olmayan kayıtlar atılıyor: {}", e.getMessage());
+                        failed = true;
+                    }
+                }
+            }
+            // Kilit sırası (ekleme -> sync) korunsun diye atma işi sync kilidi bırakıldıktan sonra
+            discardUnsynced();
+        }
+    }
+
+    private void discardUnsynced() throws IOException {
+        appendLock.lock();
+        try {
+            synchronized (syncLock) {
+                if (failed) {
+                    discardLocked();
+                }
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // İki kilit altında: fsync'i bekleyen tüm kayıtlar atılır, segment son kalıcı kayda kadar kesilir ve yazma
+    // yeni segmentte sürer
+    private void discardLocked() throws IOException {
+        discarded = appended;
+        unsynced.clear();
+        long keep = syncedEnd.segment() == segment ? syncedEnd.offset() : 0;
+        try {
+            channel.truncate(keep);
+            channel.force(false);
+        } catch (IOException e) {
+            log.error("Alım log'u kesilemedi, atılan kayıtlar açılışta yeniden işlenebilir (segment {}): {}",
+                    segment, e.getMessage());
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Alım log'u segmenti kapatılamadı (segment {}): {}", segment, e.getMessage());
+        }
+        openSegment(segment + 1);
+        failed = false;
+    }
+
+    // Sync kilidi altında: hedefe kadar olan kayıtlar log sırasıyla tüketiciye verilir
+    private void publish(long target) {
+        Unsynced next;
+        while ((next = unsynced.peek()) != null && next.seq() <= target) {
+            unsynced.poll();
+            onDurable.accept(next.entry());
+            syncedEnd = next.entry().end();
+        }
+        synced = target;
+    }
+
+    // Konuma kadar olan kayıtlar işlendi: checkpoint atomik olarak yenilenir, önceki segmentler silinir
+    void checkpoint(Position position) throws IOException {
+        Path tmp = dir.resolve(CHECKPOINT + ".tmp");
+        Files.writeString(tmp, position.segment() + " " + position.offset(), StandardCharsets.US_ASCII);
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ch.force(true);
+        }
+        Files.move(tmp, dir.resolve(CHECKPOINT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        for (long seg : segments()) {
+            if (seg < position.segment()) {
+                Files.deleteIfExists(segmentPath(seg));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            synchronized (syncLock) {
+                if (channel != null) {
+                    if (failed) {
+                        discarded = appended;
+                        unsynced.clear();
+                        failed = false;
+                    } else {
+                        channel.force(false);
+                        publish(appended);
+                    }
+                    channel.close();
+                }
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // Ekleme kilidi altında çağrılır; eski segment kapanmadan önce kalıcı hale getirilir
+    private void roll() throws IOException {
+        synchronized (syncLock) {
+            if (failed) {
+                discardLocked();
+                return;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                log.error("Alım log'u fsync başarısız, kalıcı olmayan kayıtlar atılıyor: {}", e.getMessage());
+                discardLocked();
+                throw e;
+            }
+            channel.close();
+            publish(appended);
+            openSegment(segment + 1);
+        }
+    }
+
+    private void openSegment(long seg) throws IOException {
+        channel = FileChannel.open(segmentPath(seg),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segment = seg;
+        size = channel.size();
+    }
+
+    private void readSegment(long seg, long from, List<Entry> out) throws IOException {
+        byte[] bytes = Files.readAllBytes(segmentPath(seg));
+        int start = (int) Math.min(from, bytes.length);
+        for (int i = start; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            try {
+                Record record = objectMapper.readValue(bytes, start, i - start, Record.class);
+                out.add(new Entry(record, new Position(seg, i + 1)));
+            } catch (IOException e) {
+                log.warn("Alım kaydı okunamadı, atlanıyor (segment {}, bayt {}): {}", seg, start, e.getMessage());
+            }
+            start = i + 1;
+        }
+        if (start < bytes.length) {
+            log.warn("Alım log'unda yarım kayıt yok sayıldı (segment {}, {} bayt)", seg, bytes.length - start);
+        }
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path file = dir.resolve(CHECKPOINT);
+        if (!Files.exists(file)) {
+            return new Position(0, 0);
+        }
+        String[] parts = Files.readString(file, StandardCharsets.US_ASCII).trim().split(" ");
+        return new Position(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.endsWith(SUFFIX))
+                    .map(n -> Long.parseLong(n.substring(0, n.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long seg) {
+        return dir.resolve(String.format("%020d%s", seg, SUFFIX));
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        return written;
+    }
+}
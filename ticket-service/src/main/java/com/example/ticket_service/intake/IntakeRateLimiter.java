@@ -0,0 +1,30 @@
+package com.example.ticket_service.intake;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Toplu alım ucunun istemci başına hız sınırı. İstemci JWT subject'idir (entegrasyon hesabı); her birinin
+// "ticketBatch" ayarıyla kurulmuş ayrı bir RateLimiter'ı vardır ve istek, içindeki ticket sayısı kadar izin harcar.
+// Entegrasyon hesapları az sayıda olduğundan limiter'lar registry'de kalır (metrikleri de istemci bazında çıkar).
+@Component
+@RequiredArgsConstructor
+public class IntakeRateLimiter {
+    private static final String CONFIG = "ticketBatch";
+
+    private final RateLimiterRegistry registry;
+
+    // İzin alınırsa 0, alınamazsa istemcinin tekrar denemeden önce beklemesi gereken saniye (Retry-After).
+    // Dönem sınırından büyük bir istek dönemin tamamını harcar; aksi halde hiçbir zaman kabul edilmezdi.
+    public long tryAcquire(String client, int tickets) {
+        RateLimiter limiter = registry.rateLimiter(CONFIG + ":" + client, CONFIG);
+        RateLimiterConfig config = limiter.getRateLimiterConfig();
+        int permits = Math.max(1, Math.min(tickets, config.getLimitForPeriod()));
+        if (limiter.acquirePermission(permits)) {
+            return 0;
+        }
+        return Math.max(1, (config.getLimitRefreshPeriod().toMillis() + 999) / 1000);
+    }
+}
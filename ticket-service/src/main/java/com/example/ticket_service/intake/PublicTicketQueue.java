@@ -0,0 +1,287 @@
+package com.example.ticket_service.intake;
+
+import com.example.ticket_service.cache.CategoryRouting;
+import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.example.ticket_service.dto.response.TicketIntakeDeadLetter;
+import com.example.ticket_service.dto.response.TicketIntakeStatus;
+import com.example.ticket_service.entity.TicketIntakeEntity;
+import com.example.ticket_service.repository.TicketIntakeRepository;
+import com.example.ticket_service.service.TicketIntakeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Public ticket'ların hızlı kabul modu. İstek doğrulanır, yerel log'a (IntakeLog) yazılır ve DB'ye gitmeden
+// takip token'ıyla döner; tek bir arka plan thread'i kuyruğu batch-size'lık parçalar halinde TicketIntakeService
+// üzerinden ticket'a çevirir. DB erişilemezse parça artan aralıklarla, sayılmadan yeniden denenir (kayıtlar log'da
+// bekler). Diğer hatalarda parça en fazla max-attempts kez denenir, sonra öğeler tek tek denenir; yine yazılamayan
+// öğe istek gövdesiyle ticket_intake'e dead-letter olarak yazılır ve kuyruk arkasındakilerle devam eder.
+// Sonuçlar ticket_intake'e ticket'larla aynı transaction'da yazıldığından çökme sonrası tekrar okunan kayıt
+// ikinci kez oluşturulmaz.
+@Component
+@Slf4j
+public class PublicTicketQueue {
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final IntakeLog intakeLog;
+    private final TicketIntakeService intakeService;
+    private final TicketIntakeRepository intakeRepository;
+    private final CategoryRouting categoryRouting;
+    private final ObjectMapper objectMapper;
+    private final Counter deadLetters;
+    private final int batchSize;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final BlockingQueue<IntakeLog.Entry> queue = new LinkedBlockingQueue<>();
+    // Kuyrukta bekleyen token -> kabul zamanı (durum sorgusu DB'ye gitmeden ACCEPTED döner)
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+    private Thread consumer;
+
+    public PublicTicketQueue(TicketIntakeService intakeService,
+                             TicketIntakeRepository intakeRepository,
+                             CategoryRouting categoryRouting,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${ticket.intake.queue.dir:${java.io.tmpdir}/ticket-intake-queue}") Path dir,
+                             @Value("${ticket.intake.queue.segment-size:16MB}") DataSize segmentSize,
+                             @Value("${ticket.intake.queue.fsync:true}") boolean fsync,
+                             @Value("${ticket.intake.queue.batch-size:500}") int batchSize,
+                             @Value("${ticket.intake.queue.max-pending:100000}") int maxPending,
+                             @Value("${ticket.intake.queue.max-attempts:5}") int maxAttempts) throws IOException {
+        this.intakeService = intakeService;
+        this.intakeRepository = intakeRepository;
+        this.categoryRouting = categoryRouting;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.intakeLog = new IntakeLog(dir, objectMapper, segmentSize.toBytes(), fsync, this::enqueue);
+
+        intakeLog.recover().forEach(this::enqueue);
+        if (!queue.isEmpty()) {
+            log.info("Alım kuyruğundan işlenmemiş {} ticket geri yüklendi", queue.size());
+        }
+        meterRegistry.gauge("ticket.intake.pending", pending, Map::size);
+        this.deadLetters = meterRegistry.counter("ticket.intake.dead.letters");
+    }
+
+    // Tüketici, DB (Flyway) hazır olduktan sonra başlar; o ana kadar kabul edilenler kuyrukta bekler
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        consumer = Thread.ofPlatform().name("ticket-intake-consumer").daemon().start(this::consume);
+    }
+
+    // İsteği doğrular ve kalıcı olarak kuyruğa alır. Kategori bellek içi tablodan kontrol edilir ki geçersiz istek
+    // 202 almasın; kuyruk max-pending'e ulaştıysa 503 döner.
+    public TicketIntakeStatus accept(PublicTicketRequest req) {
+        if (categoryRouting.find(req.categoryId()) == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Kategori bulunamadı");
+        }
+        if (pending.size() >= maxPending) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ticket alım kuyruğu dolu, daha sonra tekrar deneyin");
+        }
+        IntakeLog.Record record = new IntakeLog.Record(UUID.randomUUID().toString(), LocalDateTime.now(), req);
+        try {
+            // Kayıt tüketiciye fsync'ten sonra verilir; hata alan istek kuyruğa girmez, tekrar denemesi çift üretmez
+            intakeLog.append(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ticket alım kuyruğuna yazılamadı", e);
+        }
+        return TicketIntakeStatus.accepted(record.token(), record.acceptedDate());
+    }
+
+    private void enqueue(IntakeLog.Entry entry) {
+        pending.put(entry.record().token(), entry.record().acceptedDate());
+        queue.add(entry);
+    }
+
+    // Kuyrukta bekliyorsa ACCEPTED, işlendiyse ticket_intake'teki sonuç; token bilinmiyorsa boş
+    public Optional<TicketIntakeStatus> status(String token) {
+        LocalDateTime accepted = pending.get(token);
+        if (accepted != null) {
+            return Optional.of(TicketIntakeStatus.accepted(token, accepted));
+        }
+        return intakeRepository.findById(token).map(PublicTicketQueue::toStatus);
+    }
+
+    // İnceleme için en yeni dead-letter öğeleri (istek gövdesiyle)
+    public List<TicketIntakeDeadLetter> deadLetters(int limit) {
+        return intakeRepository.findDeadLetters(Limit.of(limit)).stream()
+                .map(this::toDeadLetter)
+                .toList();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (consumer != null) {
+            consumer.interrupt();
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        intakeLog.close();
+    }
+
+    private void consume() {
+        List<IntakeLog.Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                IntakeLog.Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void processWithRetry(List<IntakeLog.Entry> batch) throws InterruptedException {
+        if (attempt(batch) == null) {
+            return;
+        }
+        log.warn("Alım kuyruğu parçası {} denemede işlenemedi ({} ticket), öğeler tek tek deneniyor",
+                maxAttempts, batch.size());
+        for (IntakeLog.Entry entry : batch) {
+            Exception error = attempt(List.of(entry));
+            if (error != null) {
+                deadLetter(entry, error);
+            }
+        }
+    }
+
+    // Öğeleri işler; başarılıysa null, DB kesintisi dışındaki hatalarla deneme hakkı bittiyse son hatayı döner.
+    // Kesinti sırasında hiçbir öğe (dead-letter dahil) yazılamayacağından denemeler sayılmaz.
+    private Exception attempt(List<IntakeLog.Entry> entries) throws InterruptedException {
+        long backoff = 500;
+        int failures = 0;
+        while (running) {
+            try {
+                process(entries);
+                return null;
+            } catch (Exception e) {
+                boolean outage = isOutage(e);
+                if (!outage && ++failures >= maxAttempts) {
+                    return e;
+                }
+                log.warn("Alım kuyruğu işlenemedi ({} ticket{}), {} ms sonra tekrar denenecek: {}",
+                        entries.size(), outage ? ", DB erişilemiyor" : ", deneme " + failures, backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF.toMillis());
+            }
+        }
+        throw new InterruptedException("Alım kuyruğu durduruluyor");
+    }
+
+    // Öğe, hatası ve istek gövdesiyle ticket_intake'e yazılır (durum sorgusu DEAD_LETTER döner) ve log'da geçilir.
+    // Yazılamazsa (DB kesintisi) beklenip tekrar denenir.
+    private void deadLetter(IntakeLog.Entry entry, Exception cause) throws InterruptedException {
+        IntakeLog.Record record = entry.record();
+        long backoff = 500;
+        while (running) {
+            try {
+                // Önceki turda satır yazılıp checkpoint başarısız olduysa tekrar eklenmez
+                if (!intakeRepository.existsById(record.token())) {
+                    intakeRepository.save(TicketIntakeEntity.builder()
+                            .token(record.token())
+                            .error(truncate(cause.getMessage()))
+                            .acceptedDate(record.acceptedDate())
+                            .processedDate(LocalDateTime.now())
+                            .deadLetter(true)
+                            .payload(objectMapper.writeValueAsString(record.request()))
+                            .build());
+                }
+                intakeLog.checkpoint(entry.end());
+                pending.remove(record.token());
+                deadLetters.increment();
+                log.error("Alım kuyruğu öğesi dead-letter'a alındı (token {}): {}", record.token(), cause.getMessage());
+                return;
+            } catch (Exception e) {
+                log.warn("Dead-letter yazılamadı (token {}), {} ms sonra tekrar denenecek: {}",
+                        record.token(), backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF.toMillis());
+            }
+        }
+        throw new InterruptedException("Alım kuyruğu durduruluyor");
+    }
+
+    // DB'ye hiç ulaşılamıyor: bağlantı / transaction açılamadı
+    private static boolean isOutage(Throwable e) {
+        return e instanceof CannotCreateTransactionException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessResourceException;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    // Daha önce işlenmiş (çökme öncesi commit edilmiş) token'lar atlanır, kalanlar tek toplu alımla yazılır
+    private void process(List<IntakeLog.Entry> batch) throws IOException {
+        List<String> tokens = batch.stream().map(e -> e.record().token()).toList();
+        Set<String> processed = intakeRepository.findProcessedTokens(tokens);
+        List<TicketIntakeService.QueuedTicket> todo = batch.stream()
+                .map(IntakeLog.Entry::record)
+                .filter(r -> !processed.contains(r.token()))
+                .map(r -> new TicketIntakeService.QueuedTicket(r.token(), r.acceptedDate(), r.request()))
+                .toList();
+        if (!todo.isEmpty()) {
+            intakeService.createQueuedTickets(todo);
+        }
+        intakeLog.checkpoint(batch.getLast().end());
+        tokens.forEach(pending::remove);
+    }
+
+    private static TicketIntakeStatus toStatus(TicketIntakeEntity e) {
+        TicketIntakeStatus.State state = e.getTicketId() != null ? TicketIntakeStatus.State.CREATED
+                : Boolean.TRUE.equals(e.getDeadLetter()) ? TicketIntakeStatus.State.DEAD_LETTER
+                : TicketIntakeStatus.State.FAILED;
+        return new TicketIntakeStatus(e.getToken(), state, e.getAcceptedDate(), e.getTicketId(), e.getError());
+    }
+
+    private TicketIntakeDeadLetter toDeadLetter(TicketIntakeEntity e) {
+        PublicTicketRequest request = null;
+        try {
+            request = e.getPayload() != null ? objectMapper.readValue(e.getPayload(), PublicTicketRequest.class) : null;
+        } catch (IOException ex) {
+            log.warn("Dead-letter gövdesi okunamadı (token {}): {}", e.getToken(), ex.getMessage());
+        }
+        return TicketIntakeDeadLetter.builder()
+                .token(e.getToken())
+                .acceptedDate(e.getAcceptedDate())
+                .processedDate(e.getProcessedDate())
+                .error(e.getError())
+                .request(request)
+                .build();
+    }
+}
@@ -2,9 +2,13 @@ package com.example.ticket_service.repository;
 
 import com.example.ticket_service.entity.CustomerEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerRepository extends JpaRepository<CustomerEntity, Long> {
     // Email adresine göre müşteri arar.
     Optional<CustomerEntity> findByEmail(String email);
+    // Verilen email'lere sahip müşterileri tek (IN) sorguda getirir.
+    List<CustomerEntity> findByEmailIn(Collection<String> emails);
 }
@@ -0,0 +1,20 @@
+package com.example.ticket_service.repository;
+
+import com.example.ticket_service.entity.TicketIntakeEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface TicketIntakeRepository extends JpaRepository<TicketIntakeEntity, String> {
+    // Verilen token'lardan işlenmiş (sonucu yazılmış) olanları tek sorguda döner.
+    @Query("select i.token from TicketIntakeEntity i where i.token in :tokens")
+    Set<String> findProcessedTokens(@Param("tokens") Collection<String> tokens);
+
+    // Dead-letter'a alınmış öğeler, en yeni önce
+    @Query("select i from TicketIntakeEntity i where i.deadLetter = true order by i.processedDate desc")
+    List<TicketIntakeEntity> findDeadLetters(Limit limit);
+}
@@ -1,14 +1,31 @@
 package com.example.ticket_service.repository;
 
 import com.example.ticket_service.entity.TicketEntity;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TicketRepository extends JpaRepository<TicketEntity, Long> {
-    // Tüm ticketları (müşteri bilgisiyle birlikte) tarihe göre getirir
+    // Keyset sayfalama ile tüm ticket’lar (createdDate DESC, id DESC); ticket_view yeniden oluşturma işi kullanır
     @EntityGraph(attributePaths = {"creatorCustomer"})
-    List<TicketEntity> findAllByOrderByCreatedDateDesc();
-    // Belirli bir person (çalışan) tarafından oluşturulmuş tüm ticket’ları getirir.
-    List<TicketEntity> findByCreatorPersonId(Long personId);
+    @Query("""
+select t from TicketEntity t
+where (t.createdDate < :cd or (t.createdDate = :cd and t.id < :id))
+order by t.createdDate desc, t.id desc
+""")
+    List<TicketEntity> findPage(@Param("cd") LocalDateTime cd,
+                                @Param("id") Long id,
+                                Limit limit);
+
+    // Yeniden oluşturma işi sayfayı yazmadan önce ticket’ları kilitleyerek yeniden okur (take/reassign/close ile sıralanır)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TicketEntity t where t.id in :ids")
+    List<TicketEntity> findAllForUpdate(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,108 @@
+package com.example.ticket_service.repository;
+
+import com.example.ticket_service.entity.TicketViewEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TicketViewRepository extends JpaRepository<TicketViewEntity, Long> {
+    // Keyset sayfalama: hepsi (createdDate DESC, ticketId DESC) sıralı, imleçteki (cd, id) çiftinden sonrasını döner.
+
+    // Tüm ticket’lar (admin)
+    @Query("""
+select v from TicketViewEntity v
+where (v.createdDate < :cd or (v.createdDate = :cd and v.ticketId < :id))
+order by v.createdDate desc, v.ticketId desc
+""")
+    List<TicketViewEntity> findPage(@Param("cd") LocalDateTime cd,
+                                    @Param("id") Long id,
+                                    Limit limit);
+
+    // Belirli bir person (çalışan) tarafından oluşturulmuş ticket’lar
+    @Query("""
+select v from TicketViewEntity v
+where v.creatorPersonId = :personId
+and (v.createdDate < :cd or (v.createdDate = :cd and v.ticketId < :id))
+order by v.createdDate desc, v.ticketId desc
+""")
+    List<TicketViewEntity> findPageByCreatorPersonId(@Param("personId") Long personId,
+                                                     @Param("cd") LocalDateTime cd,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
+
+    // Şu an departmanda olan ticket’lar
+    @Query("""
+select v from TicketViewEntity v
+where v.departmentId = :deptId
+and (v.createdDate < :cd or (v.createdDate = :cd and v.ticketId < :id))
+order by v.createdDate desc, v.ticketId desc
+""")
+    List<TicketViewEntity> findPageByDepartment(@Param("deptId") Long deptId,
+                                                @Param("cd") LocalDateTime cd,
+                                                @Param("id") Long id,
+                                                Limit limit);
+
+    // Üstlendiklerim (aktif ticket’lar)
+    @Query("""
+select v from TicketViewEntity v
+where v.assigneePersonId = :personId
+and v.status = 'IN_PROGRESS'
+and v.active = true
+and (v.createdDate < :cd or (v.createdDate = :cd and v.ticketId < :id))
+order by v.createdDate desc, v.ticketId desc
+""")
+    List<TicketViewEntity> findPageAssignedTo(@Param("personId") Long personId,
+                                              @Param("cd") LocalDateTime cd,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    // Kapattıklarım (üstlenip kapattığım ticket’lar)
+    @Query("""
+select v from TicketViewEntity v
+where v.assigneePersonId = :personId
+and v.status = 'DONE'
+and (v.createdDate < :cd or (v.createdDate = :cd and v.ticketId < :id))
+order by v.createdDate desc, v.ticketId desc
+""")
+    List<TicketViewEntity> findPageClosedBy(@Param("personId") Long personId,
+                                            @Param("cd") LocalDateTime cd,
+                                            @Param("id") Long id,
+                                            Limit limit);
+
+    // Devrettiklerim (devreden kişi atama satırında person_id olarak tutulur)
+    @Query("""
+select v from TicketViewEntity v
+where exists (select 1 from TicketAssignmentEntity a
+              where a.ticket.id = v.ticketId and a.personId = :personId and a.status = 'TRANSFERRED')
+and (v.createdDate < :cd or (v.createdDate = :cd and v.ticketId < :id))
+order by v.createdDate desc, v.ticketId desc
+""")
+    List<TicketViewEntity> findPageTransferredBy(@Param("personId") Long personId,
+                                                 @Param("cd") LocalDateTime cd,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
+
+    // Departman havuzu: departmandaki aktif ticket’lar, verilen durumda; önce öncelik (HIGH > MEDIUM > LOW), sonra en eski
+    @Query("""
+select v from TicketViewEntity v
+where v.departmentId = :deptId
+and v.active = true
+and v.status = :status
+order by case v.priority when 'HIGH' then 0 when 'MEDIUM' then 1 when 'LOW' then 2 else 3 end,
+         v.createdDate asc, v.ticketId asc
+""")
+    List<TicketViewEntity> findPool(@Param("deptId") Long deptId,
+                                    @Param("status") String status,
+                                    Limit limit);
+
+    // Person alanları eksik yazılmış (degraded) satırlar, ticket id sırasıyla verilen id'den sonrası
+    @Query("""
+select v from TicketViewEntity v
+where v.degraded = true and v.ticketId > :after
+order by v.ticketId
+""")
+    List<TicketViewEntity> findDegradedAfter(@Param("after") Long after, Limit limit);
+}
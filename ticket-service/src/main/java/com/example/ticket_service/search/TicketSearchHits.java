@@ -0,0 +1,7 @@
+package com.example.ticket_service.search;
+
+import java.util.List;
+
+// Dizin sonucu: sıralı ticket id'leri ve toplam eşleşme sayısı
+public record TicketSearchHits(List<Long> ticketIds, long totalHits) {
+}
@@ -0,0 +1,287 @@
+package com.example.ticket_service.search;
+
+import com.example.ticket_service.event.TicketPoolEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Ticket konusu ve müşteri / oluşturan kişi bilgisi üzerinde gömülü Lucene dizini.
+// Dizin diskte (mmap) tutulur ve kapanışta commit edilir; açılışta önceki dizin hemen kullanılır, kapalıyken olan
+// değişiklikler arka planda ticket_view taranarak yazılır. Dizin hiç yoksa ilk kurulum bitene kadar arama 503 döner
+// (yarım dizinden eksik sonuç dönmesin). Oluşturma ve kapatma olayları commit sonrası dizine işlenir; aramalar
+// BM25 skoru, eşitlikte en yeni ile sıralanır.
+@Component
+@Slf4j
+public class TicketSearchIndex {
+    static final String F_ID = "id";
+    static final String F_ISSUE = "issue";
+    static final String F_CONTACT = "contact";
+    static final String F_ACTIVE = "active";
+    static final String F_CREATED = "created";
+
+    // Kişi eşleşmesi konu eşleşmesinden daha belirleyici
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(F_ISSUE, 1.0f, F_CONTACT, 2.0f);
+
+    // Olay kuyruğundan tek turda işlenen en fazla ticket (IN listesi)
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private static final String SELECT_DOCS = """
+            select ticket_id, issue, is_active, created_date,
+                   customer_email, customer_name, customer_surname,
+                   creator_person_email, creator_person_name, creator_person_surname
+            from ticket_view
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TurkishFoldingAnalyzer analyzer = new TurkishFoldingAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final int maxResults;
+    private final BlockingQueue<Long> pending = new LinkedBlockingQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // Kurulum taraması sürerken olaylarla yeniden yazılan ticket'lar; taramanın elindeki satır bunlardan eski
+    // olabileceğinden tarama bu id'leri atlar. Kontrol ve yazma aynı kilit altında (ikisinin sırası karışmasın).
+    private final Set<Long> reindexedDuringScan = ConcurrentHashMap.newKeySet();
+    private final Object upsertLock = new Object();
+    private volatile boolean scanning;
+    // Dizin tam (önceki çalışmadan kalan ya da bu açılışta kurulmuş) ve aramaya açık mı
+    private volatile boolean ready;
+    private volatile boolean closed;
+
+    public TicketSearchIndex(DataSource dataSource,
+                             @Value("${ticket.search.index-dir:${java.io.tmpdir}/ticket-search-index}") Path indexDir,
+                             @Value("${ticket.search.fetch-size:1000}") int fetchSize,
+                             @Value("${ticket.search.max-results:10000}") int maxResults) throws IOException {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.maxResults = maxResults;
+        this.directory = FSDirectory.open(indexDir);
+        // Commit edilmiş dizin yalnızca tam bir kurulumdan sonra oluşur (bkz. rebuild ve close)
+        this.ready = DirectoryReader.indexExists(directory);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // Açılışta dizin arka planda ticket_view ile eşitlenir; var olan dizinle aramalar bu sırada da çalışır
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread.ofVirtual().name("ticket-search-rebuild").start(this::rebuild);
+    }
+
+    public void rebuild() {
+        long started = System.nanoTime();
+        long[] count = {0};
+        reindexedDuringScan.clear();
+        scanning = true;
+        try {
+            jdbcTemplate.query(SELECT_DOCS, rs -> {
+                synchronized (upsertLock) {
+                    if (!reindexedDuringScan.contains(rs.getLong("ticket_id"))) {
+                        upsert(rs);
+                    }
+                }
+                if (++count[0] % 50_000 == 0) {
+                    refresh();
+                    log.info("Arama dizini kuruluyor: {} ticket", count[0]);
+                }
+            });
+            writer.commit();
+            refresh();
+            ready = true;
+            log.info("Arama dizini kuruldu: {} ticket, {} ms", count[0], (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            if (!closed) {
+                log.error("Arama dizini kurulamadı ({} ticket işlendi)", count[0], e);
+            }
+        } finally {
+            scanning = false;
+            reindexedDuringScan.clear();
+        }
+    }
+
+    // Oluşturulan ya da kapatılan ticket dizine (yeniden) yazılır. Olay yalnızca kuyruğa alınır; tek bir arka plan
+    // thread'i kuyruğu boşaltır ve biriken id'leri tek IN sorgusu + tek reader yenilemesiyle işler
+    // (toplu alımda 1000 ticket için 1000 sorgu/yenileme yerine birkaç tur; commit eden istek beklemez).
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPoolEvent(TicketPoolEvent event) {
+        if (event.type() != TicketPoolEvent.Type.TICKET_CREATED && event.type() != TicketPoolEvent.Type.TICKET_CLOSED) {
+            return;
+        }
+        reindex(List.of(event.ticketId()));
+    }
+
+    // Verilen ticket'lar okuma modelinden yeniden okunup dizine yazılır (olay dışı değişiklikler için, ör. onarım)
+    public void reindex(Collection<Long> ticketIds) {
+        pending.addAll(ticketIds);
+        if (draining.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("ticket-search-update").start(this::drainPending);
+        }
+    }
+
+    private void drainPending() {
+        do {
+            List<Long> ids = new ArrayList<>();
+            while (!closed && pending.drainTo(ids, UPDATE_BATCH_SIZE) > 0) {
+                try {
+                    String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+                    jdbcTemplate.query(SELECT_DOCS + " where ticket_id in (" + in + ")", this::upsertFresh, ids.toArray());
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.warn("{} ticket arama dizinine yazılamadı: {}", ids.size(), e.getMessage());
+                }
+                ids.clear();
+            }
+            draining.set(false);
+            // Bayrak bırakılırken gelen olay kaçmasın
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    // Sorgu: SimpleQueryParser sözdizimi ("tam ifade", önek*, -hariç, a | b); boşluklar VE anlamındadır.
+    // active null ise açık/kapalı hepsi aranır. offset + limit en fazla max-results olabilir; totalHits kesin sayıdır.
+    public TicketSearchHits search(String text, Boolean active, int offset, int limit) {
+        if (!ready) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Arama dizini hazırlanıyor, kısa süre sonra tekrar deneyin");
+        }
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query parsed = parser.parse(text);
+        if (parsed == null) {
+            return new TicketSearchHits(List.of(), 0);
+        }
+        Query query = parsed;
+        if (active != null) {
+            query = new BooleanQuery.Builder()
+                    .add(parsed, BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(F_ACTIVE, active.toString())), BooleanClause.Occur.FILTER)
+                    .build();
+        }
+
+        int topN = (int) Math.min((long) offset + limit, maxResults);
+        if (offset >= topN) {
+            return new TicketSearchHits(List.of(), 0);
+        }
+        Sort sort = new Sort(SortField.FIELD_SCORE, new SortField(F_CREATED, SortField.Type.LONG, true));
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs top = searcher.search(query, topN, sort);
+            StoredFields stored = searcher.storedFields();
+            List<Long> ids = new ArrayList<>(Math.max(0, top.scoreDocs.length - offset));
+            for (int i = offset; i < top.scoreDocs.length; i++) {
+                ids.add(stored.document(top.scoreDocs[i].doc).getField(F_ID).numericValue().longValue());
+            }
+            // TopDocs'taki toplam 1000 eşleşmenin üstünde yalnızca alt sınırdır
+            return new TicketSearchHits(ids, searcher.count(query));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // Olay sonrası (commit edilmiş) satır: süren kurulum taraması bu ticket'ı artık yazmaz
+    private void upsertFresh(ResultSet rs) throws SQLException {
+        synchronized (upsertLock) {
+            if (scanning) {
+                reindexedDuringScan.add(rs.getLong("ticket_id"));
+            }
+            upsert(rs);
+        }
+    }
+
+    private void upsert(ResultSet rs) throws SQLException {
+        long id = rs.getLong("ticket_id");
+        Document doc = new Document();
+        doc.add(new StringField(F_ID + "_key", Long.toString(id), Field.Store.NO));
+        doc.add(new StoredField(F_ID, id));
+        doc.add(new TextField(F_ISSUE, nullToEmpty(rs.getString("issue")), Field.Store.NO));
+        doc.add(new TextField(F_CONTACT, String.join(" ",
+                nullToEmpty(rs.getString("customer_email")),
+                nullToEmpty(rs.getString("customer_name")),
+                nullToEmpty(rs.getString("customer_surname")),
+                nullToEmpty(rs.getString("creator_person_email")),
+                nullToEmpty(rs.getString("creator_person_name")),
+                nullToEmpty(rs.getString("creator_person_surname"))), Field.Store.NO));
+        doc.add(new StringField(F_ACTIVE, Boolean.toString(rs.getBoolean("is_active")), Field.Store.NO));
+        Timestamp created = rs.getTimestamp("created_date");
+        doc.add(new NumericDocValuesField(F_CREATED, created != null ? created.getTime() : 0L));
+        try {
+            writer.updateDocument(new Term(F_ID + "_key", Long.toString(id)), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Arama dizini okuyucusu bırakılamadı: {}", e.getMessage());
+        }
+    }
+
+    private static String nullToEmpty(String s) {
+        return s != null ? s : "";
+    }
+
+    // Tam dizin commit edilip bir sonraki açılışa bırakılır; ilk kurulum yarıda kaldıysa yarım dizin yazılmaz
+    @PreDestroy
+    void close() throws IOException {
+        closed = true;
+        searcherManager.close();
+        if (ready) {
+            writer.close();
+        } else {
+            writer.rollback();
+        }
+        directory.close();
+    }
+}
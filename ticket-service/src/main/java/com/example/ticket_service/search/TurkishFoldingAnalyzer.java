@@ -0,0 +1,29 @@
+package com.example.ticket_service.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tr.ApostropheFilter;
+import org.apache.lucene.analysis.tr.TurkishLowerCaseFilter;
+
+// Türkçe metin için: "Ankara'daki" -> "ankara", "İŞLEM" / "işlem" / "islem" -> "islem", "ışık" / "IŞIK" -> "isik".
+// Önce Türkçe kurallarıyla küçük harfe çevrilir (I -> ı, İ -> i), sonra aksanlar katlanır (ı -> i, ş -> s, ç -> c, ğ -> g, ö -> o, ü -> u).
+// Böylece kullanıcı Türkçe karakterli ya da karaktersiz yazsa da aynı sonuç gelir.
+public final class TurkishFoldingAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer source = new StandardTokenizer();
+        TokenStream result = new ApostropheFilter(source);
+        result = new TurkishLowerCaseFilter(result);
+        result = new ASCIIFoldingFilter(result);
+        return new TokenStreamComponents(source, result);
+    }
+
+    // Prefix / wildcard sorgularındaki terimler de aynı şekilde katlanır
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new ASCIIFoldingFilter(new TurkishLowerCaseFilter(in));
+    }
+}
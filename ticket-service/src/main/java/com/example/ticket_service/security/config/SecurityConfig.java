@@ -1,6 +1,7 @@
 package com.example.ticket_service.security.config;
 
 import com.example.ticket_service.security.filter.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,9 +25,13 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Akış (StreamingResponseBody, SSE) bitişindeki ASYNC ve hata sayfasına ERROR dispatch'i:
+                        // istek ilk (REQUEST) geçişte yetkilendirildi, JwtFilter bu geçişlerde yeniden çalışmaz
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll()
+                        .requestMatchers("/api/tickets/public/batch").hasAnyRole("INTEGRATION", "ADMIN")
                         .requestMatchers("/api/tickets/public/**").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/departments/**").hasAnyRole("ADMIN", "PERSON")
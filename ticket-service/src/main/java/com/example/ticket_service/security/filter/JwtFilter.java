@@ -1,7 +1,7 @@
 package com.example.ticket_service.security.filter;
 
-import com.example.ticket_service.security.jwt.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.example.ticket_service.security.jwt.JwtPrincipal;
+import com.example.ticket_service.security.jwt.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,14 +21,15 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtFilter.class);
-    private final JwtUtil jwt;
+    private final VerifiedTokenCache tokens;
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws ServletException, IOException {
         String path = req.getRequestURI();
         log.debug("➡️ Request geldi: {} {}", req.getMethod(), path);
-        if (path.startsWith("/api/tickets/public")
+        // Toplu alım ucu public altında olsa da kimlik ister
+        if ((path.startsWith("/api/tickets/public") && !path.startsWith("/api/tickets/public/batch"))
                 || path.startsWith("/api/categories")
                 || path.startsWith("/actuator")) {
             chain.doFilter(req, res);
@@ -39,9 +40,10 @@ public class JwtFilter extends OncePerRequestFilter {
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
             try {
-                Claims claims = jwt.parse(token);
-                var roles = jwt.extractRoles(claims);
-                log.info("🔑 JWT subject: {}", claims.getSubject());
+                // Aynı token daha önce doğrulandıysa imza/JSON çözümlemesi atlanır
+                JwtPrincipal principal = tokens.authenticate(token);
+                var roles = principal.roles();
+                log.info("🔑 JWT subject: {}", principal.subject());
                 log.info("🔑 Extracted roles: {}", roles);
                 // ❌ rol yoksa → login başarısız
                 if (roles == null || roles.isEmpty()) {
@@ -56,14 +58,14 @@ public class JwtFilter extends OncePerRequestFilter {
                         .toList();
                 var authentication =
                         new UsernamePasswordAuthenticationToken(
-                                claims.getSubject(),
+                                principal,
                                 token,
                                 auths
                         );
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(req));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.info("✅ SecurityContext set edildi: user={}, authorities={}",
-                        claims.getSubject(), auths);
+                        principal.subject(), auths);
             } catch (Exception e) {
                 log.error("❌ JWT parse/validate hatası", e);
                 SecurityContextHolder.clearContext();
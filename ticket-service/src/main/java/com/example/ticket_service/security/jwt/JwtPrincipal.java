@@ -0,0 +1,29 @@
+package com.example.ticket_service.security.jwt;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.Instant;
+import java.util.List;
+
+// Doğrulanmış JWT'nin istek boyunca kullanılan özeti; JwtFilter SecurityContext'e principal olarak koyar.
+// Servis ve controller'lar token'ı yeniden parse etmek yerine bunu okur (@AuthenticationPrincipal ya da current()).
+public record JwtPrincipal(
+        String subject,
+        Long userId,
+        Long personId,
+        List<String> roles,
+        Instant expiresAt
+) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return subject;
+    }
+
+    // O anki isteğin doğrulanmış kullanıcısı; kimliksiz istekte null
+    public static JwtPrincipal current() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof JwtPrincipal p ? p : null;
+    }
+}
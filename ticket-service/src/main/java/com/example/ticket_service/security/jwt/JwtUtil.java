@@ -1,6 +1,7 @@
     package com.example.ticket_service.security.jwt;
 
     import io.jsonwebtoken.Claims;
+    import io.jsonwebtoken.JwtParser;
     import io.jsonwebtoken.Jwts;
     import io.jsonwebtoken.security.Keys;
     import org.springframework.beans.factory.annotation.Value;
@@ -13,26 +14,27 @@
 
     @Component
     public class JwtUtil {
-        private final SecretKey key;
-        private final String issuer;
         private final String rolesClaim;
+        // JwtParser thread-safe; her çağrıda yeniden kurulmaz
+        private final JwtParser parser;
 
         public JwtUtil(
                 @Value("${jwt.secret}") String secret,
                 @Value("${jwt.issuer:}") String issuer,
                 @Value("${jwt.roles-claim:roles}") String rolesClaim
         ) {
-            this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-            this.issuer = issuer == null ? "" : issuer.trim();
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            String requiredIssuer = issuer == null ? "" : issuer.trim();
             this.rolesClaim = rolesClaim;
+            var builder = Jwts.parserBuilder().setSigningKey(key);
+            if (!requiredIssuer.isBlank()) {
+                builder.requireIssuer(requiredIssuer);
+            }
+            this.parser = builder.build();
         }
 
         public Claims parse(String token) {
-            var builder = Jwts.parserBuilder().setSigningKey(key);
-            if (!issuer.isBlank()) {
-                builder.requireIssuer(issuer);
-            }
-            return builder.build().parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         }
 
         public List<String> extractRoles(Claims claims) {
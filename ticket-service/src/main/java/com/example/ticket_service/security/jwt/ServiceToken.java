@@ -0,0 +1,63 @@
+package com.example.ticket_service.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+// Kullanıcı isteği dışında (alım kuyruğu, onarım ve yeniden oluşturma işleri) person-service'e giden çağrılar için
+// servisler arası token. Ortak JWT anahtarıyla imzalanır, rolü SERVICE'tir; person-service bu rolü yalnızca toplu
+// person sorgusunda kabul eder. Token kısa ömürlüdür ve süresinin yarısı dolunca yenilenir.
+@Component
+public class ServiceToken {
+    public static final String ROLE = "SERVICE";
+
+    private record Issued(String value, Instant renewAt) {}
+
+    private final SecretKey key;
+    private final String issuer;
+    private final String rolesClaim;
+    private final String subject;
+    private final Duration ttl;
+    private volatile Issued issued;
+
+    public ServiceToken(@Value("${jwt.secret}") String secret,
+                        @Value("${jwt.issuer:}") String issuer,
+                        @Value("${jwt.roles-claim:roles}") String rolesClaim,
+                        @Value("${spring.application.name:ticket-service}") String subject,
+                        @Value("${jwt.service-token.ttl:5m}") Duration ttl) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.issuer = issuer == null ? "" : issuer.trim();
+        this.rolesClaim = rolesClaim;
+        this.subject = subject;
+        this.ttl = ttl;
+    }
+
+    public String get() {
+        Issued current = issued;
+        Instant now = Instant.now();
+        if (current == null || now.isAfter(current.renewAt())) {
+            current = new Issued(sign(now), now.plus(ttl.dividedBy(2)));
+            issued = current;
+        }
+        return current.value();
+    }
+
+    private String sign(Instant now) {
+        var builder = Jwts.builder()
+                .setSubject(subject)
+                .claim(rolesClaim, ROLE)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ttl)));
+        if (!issuer.isBlank()) {
+            builder.setIssuer(issuer);
+        }
+        return builder.signWith(key, SignatureAlgorithm.HS256).compact();
+    }
+}
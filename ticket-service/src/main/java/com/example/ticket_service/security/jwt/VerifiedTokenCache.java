@@ -0,0 +1,86 @@
+package com.example.ticket_service.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+// Doğrulanmış token'lar için boyutu sınırlı önbellek: aynı token tekrar geldiğinde HMAC doğrulaması ve
+// JSON çözümlemesi atlanır. Anahtar token'ın SHA-256 özetidir (token'ın kendisi bellekte tutulmaz).
+// Kayıt token'ın exp anına kadar (en fazla jwt.cache.max-ttl) yaşar; geçersiz token'lar önbelleğe girmez.
+@Component
+public class VerifiedTokenCache {
+    private final JwtUtil jwtUtil;
+    private final Duration maxTtl;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.cache.max-ttl:5m}") Duration maxTtl) {
+        this.jwtUtil = jwtUtil;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, JwtPrincipal p) -> ttl(p)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    // Token'ı doğrular (önbellekte yoksa); imza, issuer ya da süre geçersizse JwtException fırlatır
+    public JwtPrincipal authenticate(String token) {
+        String key = digest(token);
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+        JwtPrincipal principal = toPrincipal(jwtUtil.parse(token));
+        cache.put(key, principal);
+        return principal;
+    }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        return new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("personId", Long.class),
+                List.copyOf(jwtUtil.extractRoles(claims)),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    private Duration ttl(JwtPrincipal p) {
+        if (p.expiresAt() == null) {
+            return maxTtl;
+        }
+        Duration left = Duration.between(Instant.now(), p.expiresAt());
+        if (left.isNegative()) {
+            return Duration.ZERO;
+        }
+        return left.compareTo(maxTtl) < 0 ? left : maxTtl;
+    }
+
+    private static boolean isExpired(JwtPrincipal p) {
+        return p.expiresAt() != null && !p.expiresAt().isAfter(Instant.now());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+}
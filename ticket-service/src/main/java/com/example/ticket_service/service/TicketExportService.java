@@ -0,0 +1,12 @@
+package com.example.ticket_service.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TicketExportService {
+    enum Format { NDJSON, CSV }
+
+    // Tüm ticket’ları (createdDate DESC) verilen formatta akışa yazar; liste bellekte tutulmaz.
+    // Yazılan satır sayısını döner.
+    long export(Format format, OutputStream out) throws IOException;
+}
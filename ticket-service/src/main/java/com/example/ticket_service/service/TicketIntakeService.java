@@ -0,0 +1,18 @@
+package com.example.ticket_service.service;
+
+import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.example.ticket_service.dto.response.TicketBatchResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TicketIntakeService {
+    // Asenkron alım kuyruğundan gelen öğe: takip token’ı, kabul zamanı ve istek
+    record QueuedTicket(String token, LocalDateTime acceptedDate, PublicTicketRequest request) {}
+
+    // Entegrasyonlardan gelen müşteri ticket’larını toplu oluşturur; geçersiz öğeler diğerlerini durdurmaz,
+    // sonuç öğe bazında (istek sırasıyla) döner.
+    TicketBatchResponse createPublicTickets(List<PublicTicketRequest> requests);
+    // Kuyruktaki ticket’ları aynı şekilde oluşturur; her öğenin sonucu token’ıyla ticket_intake tablosuna,
+    // ticket’larla aynı transaction’da yazılır.
+    TicketBatchResponse createQueuedTickets(List<QueuedTicket> queued);
+}
@@ -2,18 +2,24 @@ package com.example.ticket_service.service;
 
 import com.example.ticket_service.dto.request.InternalTicketRequest;
 import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.example.ticket_service.dto.response.DepartmentPoolResponse;
+import com.example.ticket_service.dto.response.TicketPage;
 import com.example.ticket_service.dto.response.TicketResponse;
-import java.util.List;
+import com.example.ticket_service.dto.response.TicketSearchResponse;
 
 public interface TicketService {
     // Müşteri tarafından açılan ticket oluşturur.
     TicketResponse createPublicTicket(PublicTicketRequest req);
-    // Tüm ticketları listeler (sıralı).
-    List<TicketResponse> listAllTickets();
+    // Tüm ticketları listeler (createdDate DESC, keyset sayfalı).
+    TicketPage listAllTickets(String cursor, int size);
+    // Konu ve müşteri / oluşturan kişi bilgisinde tam metin arama (alaka sıralı, sayfalı).
+    TicketSearchResponse searchTickets(String query, Boolean active, int page, int size);
 
     // === Departman işlemleri ===
     // Belirtilen departmandaki ticketları listeler.
-    List<TicketResponse> listTicketsByDepartment(Long deptId);
+    TicketPage listTicketsByDepartment(Long deptId, String cursor, int size);
+    // Departman havuzu: açık (OPEN) ve üstlenilmiş (IN_PROGRESS) aktif ticketlar ayrı bölümler halinde.
+    DepartmentPoolResponse getDepartmentPool(Long deptId);
     // Bir ticketı departman havuzundan üstlenir.
     TicketResponse takeTicket(Long ticketId, Long deptId);
     // Bir ticketı başka departmana devreder.
@@ -25,13 +31,13 @@ public interface TicketService {
 
     // === Kullanıcının kendi listeleri ===
     // Kullanıcının üstlendiği aktif ticketlar.
-    List<TicketResponse> listMyAssigned(Long personId);
+    TicketPage listMyAssigned(Long personId, String cursor, int size);
     // Kullanıcının kapattığı ticketlar.
-    List<TicketResponse> listMyClosed(Long personId);
+    TicketPage listMyClosed(Long personId, String cursor, int size);
     // Kullanıcının devrettiği ticketlar.
-    List<TicketResponse> listMyTransferred(Long personId);
+    TicketPage listMyTransferred(Long personId, String cursor, int size);
     // Sadece kayıt olan kullanıcıların kendi adına ticket açması.
     TicketResponse createUserTicket(String issue, String priority, Long categoryId, Long personId);
     // Kayıtlı kullanıcının kendi açtığı ticketları listeleme.
-    List<TicketResponse> listMyTicketsByPerson(Long personId);
+    TicketPage listMyTicketsByPerson(Long personId, String cursor, int size);
 }
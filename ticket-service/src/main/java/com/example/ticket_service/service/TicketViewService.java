@@ -0,0 +1,24 @@
+package com.example.ticket_service.service;
+
+import com.example.ticket_service.dto.response.TicketResponse;
+import com.example.ticket_service.dto.response.TicketViewRebuildStatus;
+import com.example.ticket_service.entity.TicketEntity;
+import java.util.Collection;
+import java.util.List;
+
+public interface TicketViewService {
+    // Yazma transaction’ından önce çağrılır: kişileri ve departman adlarını isteğin token’ıyla önbelleğe yükler.
+    void prepare(Collection<Long> personIds);
+    // Ticket’in okuma modelini (ticket_view) günceller ve güncel DTO’yu döner; çağıranın transaction’ında çalışır.
+    // Person bilgisi yalnızca önbellekten alınır, önbellekte olmayan kişinin satırı onarım işiyle tamamlanır.
+    TicketResponse refresh(TicketEntity ticket);
+    // Yeni oluşturulan ticket’ların okuma modeli satırlarını tek seferde ekler (batch INSERT); çağıranın transaction’ında çalışır.
+    List<TicketResponse> createAll(List<TicketEntity> tickets);
+    // ticket_view’u tickets, customers, person ve departman bilgisinden arka planda, parça parça baştan üretir.
+    // Sürmekte olan bir iş varsa yenisi başlatılmaz; işin durumunu döner.
+    TicketViewRebuildStatus startRebuild();
+    // Son (ya da süren) yeniden oluşturma işinin durumu
+    TicketViewRebuildStatus rebuildStatus();
+    // person-service’e ulaşılamadığı için person alanları eksik yazılmış satırları tamamlar; düzeltilen satır sayısını döner.
+    int repairDegraded();
+}
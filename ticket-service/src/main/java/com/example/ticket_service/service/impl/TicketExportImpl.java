@@ -0,0 +1,155 @@
+package com.example.ticket_service.service.impl;
+
+import com.example.ticket_service.dto.response.TicketResponse;
+import com.example.ticket_service.service.TicketExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// ticket_view’u ileri yönlü JDBC imleciyle okuyup satır satır yazar.
+// Okuma modeli person/departman adlarını zaten içerdiği için dışa aktarımda servisler arası çağrı yapılmaz;
+// bellek kullanımı satır sayısından bağımsızdır (yalnızca fetch-size kadar satır + yazma tamponu).
+@Service
+@Slf4j
+public class TicketExportImpl implements TicketExportService {
+
+    private static final String SELECT_ALL = """
+            select ticket_id,
+                   customer_email, customer_name, customer_surname, customer_phone,
+                   creator_person_email, creator_person_name, creator_person_surname,
+                   issue, priority, is_active, created_date, closed_date, is_employee,
+                   status, department_id, department_name,
+                   assignee_person_id, assignee_email, assignee_name, assignee_surname,
+                   from_department_id, from_department_name, is_degraded
+            from ticket_view
+            order by created_date desc, ticket_id desc
+            """;
+
+    private static final String[] CSV_HEADER = {
+            "id", "customerEmail", "customerName", "customerSurname", "customerPhone",
+            "creatorPersonEmail", "creatorPersonName", "creatorPersonSurname",
+            "issue", "priority", "active", "createdDate", "closedDate", "employee",
+            "status", "departmentId", "departmentName",
+            "assigneePersonId", "assigneeEmail", "assigneeName", "assigneeSurname",
+            "fromDepartmentId", "fromDepartmentName", "degraded"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TicketExportImpl(DataSource dataSource,
+                            ObjectMapper objectMapper,
+                            @Value("${ticket.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long export(Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == Format.CSV) {
+            writeCsvLine(writer, CSV_HEADER);
+        }
+
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(SELECT_ALL, rs -> {
+                TicketResponse r = toResponse(rs);
+                try {
+                    if (format == Format.CSV) {
+                        writeCsvLine(writer, toCsv(r));
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(r));
+                        writer.write('\n');
+                    }
+                    // Her fetch-size satırda bir istemciye it (tampon büyümez, indirme ilerler)
+                    if (++count[0] % fetchSize == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // İstemci bağlantıyı kapattı; imleç kapanır, bağlantı havuza döner
+            log.warn("Ticket dışa aktarımı yarıda kesildi ({} satır): {}", count[0], e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Ticket dışa aktarımı tamamlandı: {} satır ({})", count[0], format);
+        return count[0];
+    }
+
+    private TicketResponse toResponse(ResultSet rs) throws SQLException {
+        Long departmentId = rs.getObject("department_id", Long.class);
+        String departmentName = rs.getString("department_name");
+        return TicketResponse.builder()
+                .id(rs.getLong("ticket_id"))
+                .customerEmail(rs.getString("customer_email"))
+                .customerName(rs.getString("customer_name"))
+                .customerSurname(rs.getString("customer_surname"))
+                .customerPhone(rs.getString("customer_phone"))
+                .creatorPersonEmail(rs.getString("creator_person_email"))
+                .creatorPersonName(rs.getString("creator_person_name"))
+                .creatorPersonSurname(rs.getString("creator_person_surname"))
+                .issue(rs.getString("issue"))
+                .priority(rs.getString("priority"))
+                .active(rs.getObject("is_active", Boolean.class))
+                .createdDate(rs.getObject("created_date", LocalDateTime.class))
+                .closedDate(rs.getObject("closed_date", LocalDateTime.class))
+                .employee(rs.getObject("is_employee", Boolean.class))
+                .status(rs.getString("status"))
+                .departmentId(departmentId)
+                .departmentName(departmentName)
+                .assigneePersonId(rs.getObject("assignee_person_id", Long.class))
+                .assigneeEmail(rs.getString("assignee_email"))
+                .assigneeName(rs.getString("assignee_name"))
+                .assigneeSurname(rs.getString("assignee_surname"))
+                .fromDepartmentId(rs.getObject("from_department_id", Long.class))
+                .fromDepartmentName(rs.getString("from_department_name"))
+                .toDepartmentId(departmentId)
+                .toDepartmentName(departmentName)
+                .degraded(rs.getObject("is_degraded", Boolean.class))
+                .build();
+    }
+
+    private static Object[] toCsv(TicketResponse r) {
+        return new Object[]{
+                r.id(), r.customerEmail(), r.customerName(), r.customerSurname(), r.customerPhone(),
+                r.creatorPersonEmail(), r.creatorPersonName(), r.creatorPersonSurname(),
+                r.issue(), r.priority(), r.active(), r.createdDate(), r.closedDate(), r.employee(),
+                r.status(), r.departmentId(), r.departmentName(),
+                r.assigneePersonId(), r.assigneeEmail(), r.assigneeName(), r.assigneeSurname(),
+                r.fromDepartmentId(), r.fromDepartmentName(), r.degraded()
+        };
+    }
+
+    // RFC 4180: virgül, tırnak ya da satır sonu içeren alanlar tırnak içine alınır, tırnaklar ikilenir
+    static void writeCsvLine(Writer writer, Object[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) writer.write(',');
+            String v = Objects.toString(fields[i], "");
+            if (v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0 || v.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(v.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(v);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
@@ -1,403 +1,451 @@
 package com.example.ticket_service.service.impl;
 
+import com.example.common.config.MetricsConfig;
+import com.example.ticket_service.cache.CustomerDirectory;
 import com.example.ticket_service.dto.request.InternalTicketRequest;
 import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.example.ticket_service.dto.request.TicketCursor;
+import com.example.ticket_service.dto.response.DepartmentPoolResponse;
+import com.example.ticket_service.dto.response.TicketPage;
 import com.example.ticket_service.dto.response.TicketResponse;
+import com.example.ticket_service.dto.response.TicketSearchResponse;
 import com.example.ticket_service.entity.*;
+import com.example.ticket_service.event.TicketPoolEvent;
 import com.example.ticket_service.repository.*;
-import com.example.ticket_service.security.jwt.JwtUtil;
+import com.example.ticket_service.search.TicketSearchHits;
+import com.example.ticket_service.search.TicketSearchIndex;
+import com.example.ticket_service.security.jwt.JwtPrincipal;
 import com.example.ticket_service.service.TicketService;
-import io.jsonwebtoken.Claims;
-import jakarta.transaction.Transactional;
+import com.example.ticket_service.service.TicketViewService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 @Slf4j
 public class TicketImpl implements TicketService {
 
     private final TicketRepository ticketRepository;
-    private final CustomerRepository customerRepository;
+    private final CustomerDirectory customerDirectory;
     private final CategoryRepository categoryRepository;
     private final TicketAssignmentRepository assignmentRepository;
-    private final JwtUtil jwtUtil;
+    private final TicketViewRepository ticketViewRepository;
+    private final TicketViewService ticketViewService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${PERSON_SERVICE_URL}")
-    private String personServiceUrl;
+    // Liste uçlarında tek sayfada dönülebilecek en fazla ticket
+    @Value("${ticket.page.max-size:200}")
+    private int maxPageSize;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Departman havuzunda dönülebilecek en fazla ticket
+    @Value("${ticket.pool.max-size:500}")
+    private int maxPoolSize;
 
-    // === Helper: JWT’den personId oku ===
+    // === Helper: İsteğin doğrulanmış kullanıcısından personId ===
     private Long currentPersonId() {
-        Authentication a = SecurityContextHolder.getContext().getAuthentication();
-        if (a == null) return null;
-        try {
-            String token = String.valueOf(a.getCredentials());
-            Claims c = jwtUtil.parse(token);
-            return c.get("personId", Long.class);
-        } catch (Exception e) {
-            log.warn("personId claim okunamadı", e);
-            return null;
-        }
+        JwtPrincipal principal = JwtPrincipal.current();
+        return principal != null ? principal.personId() : null;
     }
 
     // === Public Ticket ===
     @Override
-    @Transactional
     public TicketResponse createPublicTicket(PublicTicketRequest req) {
-        CustomerEntity customer = customerRepository.findByEmail(req.email())
-                .orElseGet(() -> customerRepository.save(
-                        CustomerEntity.builder()
-                                .email(req.email())
-                                .name(req.firstName())
-                                .surname(req.lastName())
-                                .phone(req.phone())
-                                .build()
-                ));
-        TicketEntity ticket = TicketEntity.builder()
-                .issue(req.issue())
-                .priority(req.priority())
-                .active(true)
-                .createdDate(LocalDateTime.now())
-                .creatorCustomer(customer)
-                .employee(false)
-                .build();
-        ticket = ticketRepository.save(ticket);
+        return write(List.of(), () -> {
+            CustomerEntity customer = customerDirectory.resolve(req.email(), req.firstName(), req.lastName(), req.phone());
+            CategoryEntity category = categoryRepository.findById(req.categoryId().intValue())
+                    .orElseThrow(() -> new IllegalArgumentException("Kategori bulunamadı"));
 
-        CategoryEntity category = categoryRepository.findById(req.categoryId().intValue())
-                .orElseThrow(() -> new IllegalArgumentException("Kategori bulunamadı"));
+            TicketEntity ticket = TicketEntity.builder()
+                    .issue(req.issue())
+                    .priority(req.priority())
+                    .active(true)
+                    .createdDate(LocalDateTime.now())
+                    .creatorCustomer(customer)
+                    .employee(false)
+                    .currentStatus("OPEN")
+                    .currentDepartmentId(category.getTargetDepartmentId())
+                    .build();
+            ticket = ticketRepository.save(ticket);
 
-        TicketAssignmentEntity ta = TicketAssignmentEntity.builder()
-                .ticket(ticket)
-                .departmentId(category.getTargetDepartmentId())
-                .status("OPEN")
-                .assignedDate(LocalDateTime.now())
-                .inPool(false)
-                .build();
+            TicketAssignmentEntity ta = TicketAssignmentEntity.builder()
+                    .ticket(ticket)
+                    .departmentId(category.getTargetDepartmentId())
+                    .status("OPEN")
+                    .assignedDate(LocalDateTime.now())
+                    .inPool(false)
+                    .build();
 
-        assignmentRepository.save(ta);
-        return toResponse(ticket);
+            assignmentRepository.save(ta);
+            eventPublisher.publishEvent(TicketPoolEvent.of(TicketPoolEvent.Type.TICKET_CREATED,
+                    ticket.getId(), ticket.getCurrentDepartmentId(), null, "OPEN", null));
+            return toResponse(ticket);
+        });
     }
 
     @Override
-    public List<TicketResponse> listAllTickets() {
-        return ticketRepository.findAllByOrderByCreatedDateDesc()
-                .stream().map(this::toResponse).toList();
+    public TicketPage listAllTickets(String cursor, int size) {
+        TicketCursor after = TicketCursor.parse(cursor);
+        int limit = pageSize(size);
+        return toPage(ticketViewRepository.findPage(
+                after.createdDate(), after.ticketId(), Limit.of(limit + 1)), limit);
     }
 
-    // === Departman Havuzu ===
+    // === Arama ===
     @Override
-    public List<TicketResponse> listTicketsByDepartment(Long deptId) {
-        return assignmentRepository.findByDepartmentId(deptId).stream()
-                .filter(a -> !"TRANSFERRED".equals(a.getStatus()))
-                .map(TicketAssignmentEntity::getTicket)
+    public TicketSearchResponse searchTickets(String query, Boolean active, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Arama metni boş olamaz");
+        }
+        int limit = pageSize(size);
+        // page * limit taşmasın (derin sayfalar dizinde zaten max-results ile boş döner)
+        int p = Math.clamp(page, 0, Integer.MAX_VALUE / limit);
+        TicketSearchHits hits = ticketSearchIndex.search(query, active, p * limit, limit);
+
+        // Dizin yalnızca id döner; satırlar okuma modelinden tek sorguda alınıp alaka sırasına dizilir
+        Map<Long, TicketViewEntity> byId = new HashMap<>();
+        ticketViewRepository.findAllById(hits.ticketIds()).forEach(v -> byId.put(v.getTicketId(), v));
+        List<TicketResponse> items = hits.ticketIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .map(this::toResponse)
                 .toList();
+        return TicketSearchResponse.builder()
+                .items(items)
+                .totalHits(hits.totalHits())
+                .page(p)
+                .size(limit)
+                .build();
     }
 
+    // === Departman Havuzu ===
     @Override
-    @Transactional
-    public TicketResponse takeTicket(Long ticketId, Long deptId) {
-        TicketAssignmentEntity a = assignmentRepository.findForUpdate(ticketId, deptId)
-                .orElseThrow(() -> new IllegalArgumentException("Ticket bu departmana atanmadı"));
-        if (!"OPEN".equals(a.getStatus()) || a.getPersonId() != null) {
-            throw new IllegalStateException("Ticket zaten alınmış/devredilmiş");
-        }
-        Long personId = Optional.ofNullable(currentPersonId())
-                .orElseThrow(() -> new IllegalStateException("personId yok!"));
-
-        a.setStatus("IN_PROGRESS");
-        a.setAssignedDate(LocalDateTime.now());
-        a.setPersonId(personId);
-        a.setDepartmentId(null);
-        assignmentRepository.save(a);
-
-        return toResponse(a.getTicket());
+    public TicketPage listTicketsByDepartment(Long deptId, String cursor, int size) {
+        TicketCursor after = TicketCursor.parse(cursor);
+        int limit = pageSize(size);
+        return toPage(ticketViewRepository.findPageByDepartment(
+                deptId, after.createdDate(), after.ticketId(), Limit.of(limit + 1)), limit);
     }
 
     @Override
-    @Transactional
-    public TicketResponse reassignTicket(Long ticketId, Long fromDeptId, Long toDeptId) {
-        TicketAssignmentEntity oldAssign = assignmentRepository.findByTicketId(ticketId).stream()
-                .max(Comparator.comparing(
-                        a -> Optional.ofNullable(a.getAssignedDate()).orElse(LocalDateTime.MIN)))
-                .orElseThrow(() -> new IllegalArgumentException("Ticket için assignment bulunamadı"));
-
-        Long actor = Optional.ofNullable(currentPersonId())
-                .orElseThrow(() -> new IllegalStateException("Devreden personId bulunamadı!"));
-
-        oldAssign.setPersonId(actor);
-        oldAssign.setStatus("TRANSFERRED");
-        oldAssign.setCompletedDate(LocalDateTime.now());
-        oldAssign.setDepartmentId(null);
-        assignmentRepository.save(oldAssign);
-
-        TicketAssignmentEntity newAssign = TicketAssignmentEntity.builder()
-                .ticket(oldAssign.getTicket())
-                .departmentId(toDeptId)
-                .status("OPEN")
-                .assignedDate(LocalDateTime.now())
-                .inPool(false)
+    public DepartmentPoolResponse getDepartmentPool(Long deptId) {
+        // Bölümler ayrı sınırlanır (açıkların çokluğu üzerinde çalışılanları gizlemesin); fazlası kesildi demektir
+        List<TicketViewEntity> open = ticketViewRepository.findPool(deptId, "OPEN", Limit.of(maxPoolSize + 1));
+        List<TicketViewEntity> inProgress = ticketViewRepository.findPool(deptId, "IN_PROGRESS", Limit.of(maxPoolSize + 1));
+        return DepartmentPoolResponse.builder()
+                .departmentId(deptId)
+                .open(poolSection(open))
+                .inProgress(poolSection(inProgress))
+                .truncated(open.size() > maxPoolSize || inProgress.size() > maxPoolSize)
                 .build();
+    }
 
-        assignmentRepository.save(newAssign);
-        return toResponse(oldAssign.getTicket());
+    private List<TicketResponse> poolSection(List<TicketViewEntity> rows) {
+        return rows.stream().limit(maxPoolSize).map(this::toResponse).toList();
     }
 
     @Override
-    @Transactional
-    public TicketResponse closeTicket(Long ticketId) {
-        TicketEntity t = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new IllegalArgumentException("Ticket bulunamadı"));
+    public TicketResponse takeTicket(Long ticketId, Long deptId) {
+        return write(personsWith(ticketId, currentPersonId()), () -> {
+            TicketAssignmentEntity a = assignmentRepository.findForUpdate(ticketId, deptId)
+                    .orElseThrow(() -> new IllegalArgumentException("Ticket bu departmana atanmadı"));
+            if (!"OPEN".equals(a.getStatus()) || a.getPersonId() != null) {
+                throw new IllegalStateException("Ticket zaten alınmış/devredilmiş");
+            }
+            Long personId = Optional.ofNullable(currentPersonId())
+                    .orElseThrow(() -> new IllegalStateException("personId yok!"));
 
-        if (Boolean.FALSE.equals(t.getActive())) return toResponse(t);
+            a.setStatus("IN_PROGRESS");
+            a.setAssignedDate(LocalDateTime.now());
+            a.setPersonId(personId);
+            a.setDepartmentId(null);
+            assignmentRepository.save(a);
 
-        t.setActive(false);
-        t.setClosedDate(LocalDateTime.now());
-        ticketRepository.save(t);
+            // Ticket üzerindeki anlık atama: departman korunur, üstlenen kişi yazılır
+            TicketEntity t = a.getTicket();
+            t.setCurrentStatus("IN_PROGRESS");
+            t.setCurrentDepartmentId(deptId);
+            t.setCurrentPersonId(personId);
+            ticketRepository.save(t);
 
-        assignmentRepository.findByTicketId(ticketId).forEach(a -> {
-            if (!"DONE".equals(a.getStatus())) {
-                a.setStatus("DONE");
-            }
-            if (a.getCompletedDate() == null) {
-                a.setCompletedDate(LocalDateTime.now());
-            }
-            assignmentRepository.save(a);
+            eventPublisher.publishEvent(TicketPoolEvent.of(TicketPoolEvent.Type.TICKET_TAKEN,
+                    t.getId(), deptId, null, "IN_PROGRESS", personId));
+            return toResponse(t);
         });
-
-        return toResponse(t);
     }
 
-    // === Internal Ticket ===
     @Override
-    @Transactional
-    public TicketResponse createInternalTicket(InternalTicketRequest req) {
-        Long personId = req.personId() != null ? req.personId() : currentPersonId();
-        if (personId == null) {
-            throw new IllegalStateException("Internal ticket açan personId bulunamadı!");
-        }
-        if (req.departmentId() == null) {
-            throw new IllegalArgumentException("Departman seçilmesi zorunludur");
-        }
-
-        TicketEntity ticket = TicketEntity.builder()
-                .issue(req.issue())
-                .priority(req.priority())
-                .active(true)
-                .createdDate(LocalDateTime.now())
-                .creatorPersonId(personId)
-                .employee(true)
-                .build();
+    public TicketResponse reassignTicket(Long ticketId, Long fromDeptId, Long toDeptId) {
+        return write(personsWith(ticketId, null), () -> {
+            TicketAssignmentEntity oldAssign = assignmentRepository.findByTicketId(ticketId).stream()
+                    .max(Comparator.comparing(
+                            a -> Optional.ofNullable(a.getAssignedDate()).orElse(LocalDateTime.MIN)))
+                    .orElseThrow(() -> new IllegalArgumentException("Ticket için assignment bulunamadı"));
+
+            Long actor = Optional.ofNullable(currentPersonId())
+                    .orElseThrow(() -> new IllegalStateException("Devreden personId bulunamadı!"));
+
+            oldAssign.setPersonId(actor);
+            oldAssign.setStatus("TRANSFERRED");
+            oldAssign.setCompletedDate(LocalDateTime.now());
+            oldAssign.setDepartmentId(null);
+            assignmentRepository.save(oldAssign);
+
+            TicketAssignmentEntity newAssign = TicketAssignmentEntity.builder()
+                    .ticket(oldAssign.getTicket())
+                    .departmentId(toDeptId)
+                    .status("OPEN")
+                    .assignedDate(LocalDateTime.now())
+                    .inPool(false)
+                    .build();
 
-        ticket = ticketRepository.save(ticket);
+            assignmentRepository.save(newAssign);
 
-        TicketAssignmentEntity ta = TicketAssignmentEntity.builder()
-                .ticket(ticket)
-                .departmentId(req.departmentId())
-                .status("OPEN")
-                .assignedDate(LocalDateTime.now())
-                .inPool(false)
-                .build();
+            // Ticket üzerindeki anlık atama: yeni departmanın havuzuna düşer, son devir kaydedilir
+            TicketEntity t = oldAssign.getTicket();
+            t.setLastTransferDepartmentId(Optional.ofNullable(t.getCurrentDepartmentId()).orElse(fromDeptId));
+            t.setCurrentStatus("OPEN");
+            t.setCurrentDepartmentId(toDeptId);
+            t.setCurrentPersonId(null);
+            ticketRepository.save(t);
 
-        assignmentRepository.save(ta);
-        return toResponse(ticket);
+            eventPublisher.publishEvent(TicketPoolEvent.of(TicketPoolEvent.Type.TICKET_REASSIGNED,
+                    t.getId(), toDeptId, t.getLastTransferDepartmentId(), "OPEN", actor));
+            return toResponse(t);
+        });
     }
 
-    // === User Ticket ===
     @Override
-    @Transactional
-    public TicketResponse createUserTicket(String issue, String priority, Long categoryId, Long personId) {
-        if (personId == null) {
-            throw new IllegalStateException("User ticket açan personId bulunamadı!");
-        }
+    public TicketResponse closeTicket(Long ticketId) {
+        return write(personsWith(ticketId, null), () -> {
+            TicketEntity t = ticketRepository.findById(ticketId)
+                    .orElseThrow(() -> new IllegalArgumentException("Ticket bulunamadı"));
+
+            if (Boolean.FALSE.equals(t.getActive())) return toResponse(t);
+
+            t.setActive(false);
+            t.setClosedDate(LocalDateTime.now());
+            t.setCurrentStatus("DONE");
+            ticketRepository.save(t);
+
+            assignmentRepository.findByTicketId(ticketId).forEach(a -> {
+                if (!"DONE".equals(a.getStatus())) {
+                    a.setStatus("DONE");
+                }
+                if (a.getCompletedDate() == null) {
+                    a.setCompletedDate(LocalDateTime.now());
+                }
+                assignmentRepository.save(a);
+            });
+
+            eventPublisher.publishEvent(TicketPoolEvent.of(TicketPoolEvent.Type.TICKET_CLOSED,
+                    t.getId(), t.getCurrentDepartmentId(), null, "DONE", currentPersonId()));
+            return toResponse(t);
+        });
+    }
 
-        TicketEntity ticket = TicketEntity.builder()
-                .issue(issue)
-                .priority(priority)
-                .active(true)
-                .createdDate(LocalDateTime.now())
-                .creatorPersonId(personId)
-                .employee(true)
-                .build();
+    // === Internal Ticket ===
+    @Override
+    public TicketResponse createInternalTicket(InternalTicketRequest req) {
+        return write(Collections.singleton(req.personId() != null ? req.personId() : currentPersonId()), () -> {
+            Long personId = req.personId() != null ? req.personId() : currentPersonId();
+            if (personId == null) {
+                throw new IllegalStateException("Internal ticket açan personId bulunamadı!");
+            }
+            if (req.departmentId() == null) {
+                throw new IllegalArgumentException("Departman seçilmesi zorunludur");
+            }
 
-        ticket = ticketRepository.save(ticket);
+            TicketEntity ticket = TicketEntity.builder()
+                    .issue(req.issue())
+                    .priority(req.priority())
+                    .active(true)
+                    .createdDate(LocalDateTime.now())
+                    .creatorPersonId(personId)
+                    .employee(true)
+                    .currentStatus("OPEN")
+                    .currentDepartmentId(req.departmentId())
+                    .build();
 
-        if (categoryId != null) {
-            CategoryEntity category = categoryRepository.findById(categoryId.intValue())
-                    .orElseThrow(() -> new IllegalArgumentException("Kategori bulunamadı"));
+            ticket = ticketRepository.save(ticket);
 
             TicketAssignmentEntity ta = TicketAssignmentEntity.builder()
                     .ticket(ticket)
-                    .departmentId(category.getTargetDepartmentId())
+                    .departmentId(req.departmentId())
                     .status("OPEN")
                     .assignedDate(LocalDateTime.now())
                     .inPool(false)
                     .build();
 
             assignmentRepository.save(ta);
-        }
-        return toResponse(ticket);
+            eventPublisher.publishEvent(TicketPoolEvent.of(TicketPoolEvent.Type.TICKET_CREATED,
+                    ticket.getId(), req.departmentId(), null, "OPEN", null));
+            return toResponse(ticket);
+        });
     }
 
-    // === My Tickets ===
+    // === User Ticket ===
     @Override
-    public List<TicketResponse> listMyAssigned(Long personId) {
-        return assignmentRepository.findMyAssigned(personId).stream()
-                .map(TicketAssignmentEntity::getTicket)
-                .map(this::toResponse)
-                .toList();
+    public TicketResponse createUserTicket(String issue, String priority, Long categoryId, Long personId) {
+        return write(Collections.singleton(personId), () -> {
+            if (personId == null) {
+                throw new IllegalStateException("User ticket açan personId bulunamadı!");
+            }
+
+            CategoryEntity category = categoryId != null
+                    ? categoryRepository.findById(categoryId.intValue())
+                            .orElseThrow(() -> new IllegalArgumentException("Kategori bulunamadı"))
+                    : null;
+
+            TicketEntity ticket = TicketEntity.builder()
+                    .issue(issue)
+                    .priority(priority)
+                    .active(true)
+                    .createdDate(LocalDateTime.now())
+                    .creatorPersonId(personId)
+                    .employee(true)
+                    .currentStatus(category != null ? "OPEN" : null)
+                    .currentDepartmentId(category != null ? category.getTargetDepartmentId() : null)
+                    .build();
+
+            ticket = ticketRepository.save(ticket);
+
+            if (category != null) {
+                TicketAssignmentEntity ta = TicketAssignmentEntity.builder()
+                        .ticket(ticket)
+                        .departmentId(category.getTargetDepartmentId())
+                        .status("OPEN")
+                        .assignedDate(LocalDateTime.now())
+                        .inPool(false)
+                        .build();
+
+                assignmentRepository.save(ta);
+                eventPublisher.publishEvent(TicketPoolEvent.of(TicketPoolEvent.Type.TICKET_CREATED,
+                        ticket.getId(), category.getTargetDepartmentId(), null, "OPEN", null));
+            }
+            return toResponse(ticket);
+        });
     }
 
+    // === My Tickets ===
     @Override
-    public List<TicketResponse> listMyClosed(Long personId) {
-        return assignmentRepository.findMyClosedOnly(personId).stream()
-                .map(TicketAssignmentEntity::getTicket)
-                .map(this::toResponse)
-                .toList();
+    public TicketPage listMyAssigned(Long personId, String cursor, int size) {
+        TicketCursor after = TicketCursor.parse(cursor);
+        int limit = pageSize(size);
+        return toPage(ticketViewRepository.findPageAssignedTo(
+                personId, after.createdDate(), after.ticketId(), Limit.of(limit + 1)), limit);
     }
 
+    @Override
+    public TicketPage listMyClosed(Long personId, String cursor, int size) {
+        TicketCursor after = TicketCursor.parse(cursor);
+        int limit = pageSize(size);
+        return toPage(ticketViewRepository.findPageClosedBy(
+                personId, after.createdDate(), after.ticketId(), Limit.of(limit + 1)), limit);
+    }
 
     @Override
-    public List<TicketResponse> listMyTransferred(Long personId) {
-        return assignmentRepository.findByPersonIdAndStatusOrderByCompletedDateDesc(personId, "TRANSFERRED").stream()
-                .map(TicketAssignmentEntity::getTicket)
-                .sorted(Comparator.comparing(
-                        t -> Optional.ofNullable(t.getClosedDate()).orElse(t.getCreatedDate()),
-                        Comparator.nullsLast(Comparator.reverseOrder())))
-                .map(this::toResponse)
-                .toList();
+    public TicketPage listMyTransferred(Long personId, String cursor, int size) {
+        TicketCursor after = TicketCursor.parse(cursor);
+        int limit = pageSize(size);
+        return toPage(ticketViewRepository.findPageTransferredBy(
+                personId, after.createdDate(), after.ticketId(), Limit.of(limit + 1)), limit);
     }
 
     @Override
-    public List<TicketResponse> listMyTicketsByPerson(Long personId) {
-        return ticketRepository.findByCreatorPersonId(personId).stream()
-                .map(this::toResponse)
-                .toList();
+    public TicketPage listMyTicketsByPerson(Long personId, String cursor, int size) {
+        TicketCursor after = TicketCursor.parse(cursor);
+        int limit = pageSize(size);
+        return toPage(ticketViewRepository.findPageByCreatorPersonId(
+                personId, after.createdDate(), after.ticketId(), Limit.of(limit + 1)), limit);
     }
 
-    // === Helper: Ticket’i DTO’ya dönüştür ===
-    private TicketResponse toResponse(TicketEntity t) {
-        List<TicketAssignmentEntity> all = assignmentRepository.findByTicketId(t.getId());
-        TicketAssignmentEntity latest = all.stream()
-                .max(Comparator.comparing(
-                        a -> Optional.ofNullable(a.getAssignedDate()).orElse(LocalDateTime.MIN)))
-                .orElse(null);
-
-        TicketAssignmentEntity lastTransferred = all.stream()
-                .filter(a -> "TRANSFERRED".equals(a.getStatus()))
-                .max(Comparator.comparing(
-                        a -> Optional.ofNullable(a.getCompletedDate()).orElse(LocalDateTime.MIN)))
-                .orElse(null);
-
-        // === Creator bilgisi ===
-        String creatorEmail = null;
-        String creatorName = null;
-        String creatorSurname = null;
-
-        if (t.getCreatorPersonId() != null) {
-            Map<?, ?> person = fetchPerson(t.getCreatorPersonId());
-            if (person != null) {
-                creatorEmail = (String) person.get("email");
-                creatorName = (String) person.get("name");
-                creatorSurname = (String) person.get("surname");
-            }
-        }
+    // === Helper: Yazma transaction’ı ===
+    // Ticket’ın kişileri ve departman adları transaction açılmadan önbelleğe alınır; transaction içinde
+    // (satır kilitleri ve bağlantı tutulurken) person-service’e gidilmez, okuma modeli önbellekten doldurulur.
+    private TicketResponse write(Collection<Long> personIds, Supplier<TicketResponse> work) {
+        ticketViewService.prepare(personIds);
+        return transactionTemplate.execute(status -> work.get());
+    }
 
-        // === Assignee bilgisi ===
-        String assigneeEmail = null;
-        String assigneeName = null;
-        String assigneeSurname = null;
-        if (latest != null && latest.getPersonId() != null) {
-            Map<?, ?> person = fetchPerson(latest.getPersonId());
-            if (person != null) {
-                assigneeEmail = (String) person.get("email");
-                assigneeName = (String) person.get("name");
-                assigneeSurname = (String) person.get("surname");
-            }
-        }
+    // Var olan ticket’ın oluşturan ve üstlenen kişileri (okuma modelinden) ile yazmadan sonra atanacak kişi
+    private List<Long> personsWith(Long ticketId, Long assignee) {
+        List<Long> ids = new ArrayList<>(3);
+        ticketViewRepository.findById(ticketId).ifPresent(v -> {
+            ids.add(v.getCreatorPersonId());
+            ids.add(v.getAssigneePersonId());
+        });
+        ids.add(assignee);
+        return ids;
+    }
 
-        // === Departman adları ===
-        String deptName = null;
-        if (latest != null && latest.getDepartmentId() != null) {
-            deptName = categoryRepository.findByTargetDepartmentId(latest.getDepartmentId())
-                    .map(CategoryEntity::getDisplayName) // ✅ doğru alan
-                    .orElse("Departman #" + latest.getDepartmentId());
-        }
+    // === Helper: Sayfalama ===
+    // İstenen sayfa boyutu [1, maxPageSize] aralığına çekilir.
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
 
-        String fromDeptName = null;
-        if (lastTransferred != null && lastTransferred.getDepartmentId() != null) {
-            fromDeptName = categoryRepository.findByTargetDepartmentId(lastTransferred.getDepartmentId())
-                    .map(CategoryEntity::getDisplayName)
-                    .orElse("Departman #" + lastTransferred.getDepartmentId());
+    // limit + 1 satır okunur; fazlası varsa sonraki sayfa, son gösterilen satırın (createdDate, id) çiftinden başlar.
+    private TicketPage toPage(List<TicketViewEntity> rows, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<TicketViewEntity> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            TicketViewEntity last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new TicketCursor(last.getCreatedDate(), last.getTicketId()).encode();
         }
-
-        String toDeptName = deptName;
-
-        return TicketResponse.builder()
-                .id(t.getId())
-                .customerEmail(t.getCreatorCustomer() != null ? t.getCreatorCustomer().getEmail() : null)
-                .customerName(t.getCreatorCustomer() != null ? t.getCreatorCustomer().getName() : null)
-                .customerSurname(t.getCreatorCustomer() != null ? t.getCreatorCustomer().getSurname() : null)
-                .customerPhone(t.getCreatorCustomer() != null ? t.getCreatorCustomer().getPhone() : null)
-                .creatorPersonEmail(creatorEmail)
-                .creatorPersonName(creatorName)
-                .creatorPersonSurname(creatorSurname)
-                .issue(t.getIssue())
-                .priority(t.getPriority())
-                .active(t.getActive())
-                .createdDate(t.getCreatedDate())
-                .closedDate(t.getClosedDate())
-                .status(latest != null ? latest.getStatus() : null)
-                .departmentId(latest != null ? latest.getDepartmentId() : null)
-                .departmentName(deptName)
-                .assigneePersonId(latest != null ? latest.getPersonId() : null)
-                .employee(t.getEmployee())
-                .fromDepartmentId(lastTransferred != null ? lastTransferred.getDepartmentId() : null)
-                .fromDepartmentName(fromDeptName)
-                .toDepartmentId(latest != null ? latest.getDepartmentId() : null)
-                .toDepartmentName(toDeptName)
-                .assigneeEmail(assigneeEmail)
-                .assigneeName(assigneeName)
-                .assigneeSurname(assigneeSurname)
+        return TicketPage.builder()
+                .items(pageRows.stream().map(this::toResponse).toList())
+                .nextCursor(nextCursor)
                 .build();
     }
 
-    // === Helper: Person fetch ===
-    private Map<?, ?> fetchPerson(Long personId) {
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            String token = auth != null ? String.valueOf(auth.getCredentials()) : null;
+    // === Helper: Yazma sonrası okuma modelini güncelle ve DTO’yu dön ===
+    private TicketResponse toResponse(TicketEntity t) {
+        return ticketViewService.refresh(t);
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            if (token != null) {
-                headers.setBearerAuth(token);
-            }
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    personServiceUrl + personId,
-                    HttpMethod.GET,
-                    entity,
-                    Map.class
-            );
-            return response.getBody();
-        } catch (Exception e) {
-            log.warn("Person-service çağrısı başarısız oldu: {}", e.getMessage());
-            return null;
-        }
+    // === Helper: Okuma modelinden DTO ===
+    private TicketResponse toResponse(TicketViewEntity v) {
+        return TicketResponse.builder()
+                .id(v.getTicketId())
+                .customerEmail(v.getCustomerEmail())
+                .customerName(v.getCustomerName())
+                .customerSurname(v.getCustomerSurname())
+                .customerPhone(v.getCustomerPhone())
+                .creatorPersonEmail(v.getCreatorPersonEmail())
+                .creatorPersonName(v.getCreatorPersonName())
+                .creatorPersonSurname(v.getCreatorPersonSurname())
+                .issue(v.getIssue())
+                .priority(v.getPriority())
+                .active(v.getActive())
+                .createdDate(v.getCreatedDate())
+                .closedDate(v.getClosedDate())
+                .status(v.getStatus())
+                .departmentId(v.getDepartmentId())
+                .departmentName(v.getDepartmentName())
+                .assigneePersonId(v.getAssigneePersonId())
+                .employee(v.getEmployee())
+                .fromDepartmentId(v.getFromDepartmentId())
+                .fromDepartmentName(v.getFromDepartmentName())
+                .toDepartmentId(v.getDepartmentId())
+                .toDepartmentName(v.getDepartmentName())
+                .assigneeEmail(v.getAssigneeEmail())
+                .assigneeName(v.getAssigneeName())
+                .assigneeSurname(v.getAssigneeSurname())
+                .degraded(v.getDegraded())
+                .build();
     }
 }
@@ -0,0 +1,311 @@
+package com.example.ticket_service.service.impl;
+
+import com.example.common.config.MetricsConfig;
+import com.example.ticket_service.cache.CategoryRouting;
+import com.example.ticket_service.cache.CustomerDirectory;
+import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.example.ticket_service.dto.response.TicketBatchResponse;
+import com.example.ticket_service.entity.CustomerEntity;
+import com.example.ticket_service.entity.TicketAssignmentEntity;
+import com.example.ticket_service.entity.TicketEntity;
+import com.example.ticket_service.entity.TicketIntakeEntity;
+import com.example.ticket_service.event.TicketPoolEvent;
+import com.example.ticket_service.repository.CustomerRepository;
+import com.example.ticket_service.repository.TicketAssignmentRepository;
+import com.example.ticket_service.repository.TicketIntakeRepository;
+import com.example.ticket_service.repository.TicketRepository;
+import com.example.ticket_service.service.TicketIntakeService;
+import com.example.ticket_service.service.TicketViewService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Toplu public ticket alımı. Öğeler chunk-size'lık parçalar halinde, parça başına tek transaction'da yazılır:
+// - parçadaki müşteriler önce önbellekten (CustomerDirectory), kalanlar tek IN sorgusuyla bulunur, olmayanlar toplu eklenir
+// - kategori yönlendirmesi bellek içi tablodan (CategoryRouting) okunur
+// - tickets, ticket_assignments ve ticket_view satırları JDBC batch ile gider (sequence id'ler, V16)
+// Doğrulaması geçmeyen öğe raporlanır, diğerleri yazılmaya devam eder; yazılamayan parça öğe öğe yeniden denenir.
+// Kuyruktan gelen öğelerde sonuçlar ayrıca ticket_intake'e yazılır (oluşanlar parçayla aynı transaction'da);
+// yazılamayan öğeler FAILED kaydedilmez, kuyruğun yeniden denemesine bırakılır.
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Slf4j
+public class TicketIntakeImpl implements TicketIntakeService {
+
+    private final TicketRepository ticketRepository;
+    private final CustomerRepository customerRepository;
+    private final TicketAssignmentRepository assignmentRepository;
+    private final TicketIntakeRepository intakeRepository;
+    private final TicketViewService ticketViewService;
+    private final CategoryRouting categoryRouting;
+    private final CustomerDirectory customerDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int maxBatchSize;
+    private final int chunkSize;
+
+    public TicketIntakeImpl(TicketRepository ticketRepository,
+                            CustomerRepository customerRepository,
+                            TicketAssignmentRepository assignmentRepository,
+                            TicketIntakeRepository intakeRepository,
+                            TicketViewService ticketViewService,
+                            CategoryRouting categoryRouting,
+                            CustomerDirectory customerDirectory,
+                            ApplicationEventPublisher eventPublisher,
+                            TransactionTemplate transactionTemplate,
+                            Validator validator,
+                            @Value("${ticket.intake.max-batch-size:1000}") int maxBatchSize,
+                            @Value("${ticket.intake.chunk-size:200}") int chunkSize) {
+        this.ticketRepository = ticketRepository;
+        this.customerRepository = customerRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.intakeRepository = intakeRepository;
+        this.ticketViewService = ticketViewService;
+        this.categoryRouting = categoryRouting;
+        this.customerDirectory = customerDirectory;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public TicketBatchResponse createPublicTickets(List<PublicTicketRequest> requests) {
+        return create(requests, null);
+    }
+
+    @Override
+    public TicketBatchResponse createQueuedTickets(List<QueuedTicket> queued) {
+        return create(queued.stream().map(QueuedTicket::request).toList(), queued);
+    }
+
+    // queued null değilse requests ile aynı sırada kuyruk öğeleridir
+    private TicketBatchResponse create(List<PublicTicketRequest> requests, List<QueuedTicket> queued) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "En az bir ticket gönderilmeli");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Tek istekte en fazla " + maxBatchSize + " ticket gönderilebilir");
+        }
+
+        TicketBatchResponse.Item[] items = new TicketBatchResponse.Item[requests.size()];
+        List<Integer> accepted = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                items[i] = TicketBatchResponse.Item.failed(i, error);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        List<Integer> unwritten = new ArrayList<>();
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + chunkSize, accepted.size()));
+            unwritten.addAll(writeChunk(chunk, requests, queued, items));
+        }
+        if (queued != null) {
+            recordFailures(queued, items, unwritten);
+            if (!unwritten.isEmpty()) {
+                throw new IllegalStateException(unwritten.size() + " kuyruk öğesi yazılamadı");
+            }
+        }
+
+        int created = (int) Arrays.stream(items).filter(it -> it.ticketId() != null).count();
+        log.info("Toplu ticket alımı: toplam={}, oluşturulan={}, hatalı={}",
+                requests.size(), created, requests.size() - created);
+        return TicketBatchResponse.builder()
+                .total(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .items(List.of(items))
+                .build();
+    }
+
+    private String validate(PublicTicketRequest req) {
+        if (req == null) {
+            return "Boş öğe";
+        }
+        Set<ConstraintViolation<PublicTicketRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (categoryRouting.find(req.categoryId()) == null) {
+            return "Kategori bulunamadı";
+        }
+        return null;
+    }
+
+    // Parçayı yazar; yazılamazsa öğeler tek tek denenir ki tek bir sorunlu öğe parçanın tamamını düşürmesin.
+    // Yine yazılamayan öğelerin indekslerini döner.
+    private List<Integer> writeChunk(List<Integer> chunk, List<PublicTicketRequest> requests, List<QueuedTicket> queued,
+                                     TicketBatchResponse.Item[] items) {
+        if (tryWrite(chunk, requests, queued, items)) {
+            return List.of();
+        }
+        if (chunk.size() == 1) {
+            return List.copyOf(chunk);
+        }
+        log.warn("Toplu ticket parçası yazılamadı ({} öğe), öğeler tek tek deneniyor", chunk.size());
+        List<Integer> unwritten = new ArrayList<>();
+        for (Integer i : chunk) {
+            if (!tryWrite(List.of(i), requests, queued, items)) {
+                unwritten.add(i);
+            }
+        }
+        return unwritten;
+    }
+
+    // Aynı anda başka bir istek aynı email'le müşteri eklediyse (unique ihlali) bir kez daha denenir; ikinci
+    // denemede müşteri IN sorgusunda bulunur. Yazılamazsa öğeler "tekrar deneyin" hatasıyla işaretlenir.
+    private boolean tryWrite(List<Integer> chunk, List<PublicTicketRequest> requests, List<QueuedTicket> queued,
+                             TicketBatchResponse.Item[] items) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<TicketEntity> tickets = transactionTemplate.execute(status -> insert(chunk, requests, queued));
+                for (int i = 0; i < chunk.size(); i++) {
+                    TicketEntity t = tickets.get(i);
+                    items[chunk.get(i)] = TicketBatchResponse.Item.created(chunk.get(i), t.getId(), t.getCurrentDepartmentId());
+                }
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt < 2) {
+                    log.debug("Toplu ticket parçası çakıştı, tekrar deneniyor: {}", e.getMessage());
+                    continue;
+                }
+                log.debug("Ticket yazılamadı ({} öğe): {}", chunk.size(), e.getMessage());
+                for (Integer i : chunk) {
+                    items[i] = TicketBatchResponse.Item.failed(i, "Kayıt yazılamadı, tekrar deneyin");
+                }
+                return false;
+            }
+        }
+    }
+
+    private List<TicketEntity> insert(List<Integer> chunk, List<PublicTicketRequest> requests, List<QueuedTicket> queued) {
+        Map<String, CustomerEntity> customers = resolveCustomers(chunk.stream().map(requests::get).toList());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<TicketEntity> tickets = new ArrayList<>(chunk.size());
+        List<TicketAssignmentEntity> assignments = new ArrayList<>(chunk.size());
+        for (Integer i : chunk) {
+            PublicTicketRequest req = requests.get(i);
+            Long departmentId = categoryRouting.find(req.categoryId()).targetDepartmentId();
+            TicketEntity ticket = TicketEntity.builder()
+                    .issue(req.issue())
+                    .priority(req.priority())
+                    .active(true)
+                    .createdDate(now)
+                    .creatorCustomer(customers.get(emailKey(req.email())))
+                    .employee(false)
+                    .currentStatus("OPEN")
+                    .currentDepartmentId(departmentId)
+                    .build();
+            tickets.add(ticket);
+            assignments.add(TicketAssignmentEntity.builder()
+                    .ticket(ticket)
+                    .departmentId(departmentId)
+                    .status("OPEN")
+                    .assignedDate(now)
+                    .inPool(false)
+                    .build());
+        }
+        ticketRepository.saveAll(tickets);
+        assignmentRepository.saveAll(assignments);
+        ticketViewService.createAll(tickets);
+        if (queued != null) {
+            List<TicketIntakeEntity> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(intakeResult(queued.get(chunk.get(i)), tickets.get(i).getId(), null, now));
+            }
+            intakeRepository.saveAll(results);
+        }
+
+        for (TicketEntity t : tickets) {
+            eventPublisher.publishEvent(TicketPoolEvent.of(TicketPoolEvent.Type.TICKET_CREATED,
+                    t.getId(), t.getCurrentDepartmentId(), null, "OPEN", null));
+        }
+        return tickets;
+    }
+
+    // Doğrulamada düşen kuyruk öğelerinin hatası kaydedilir (durum sorgusu FAILED döner); yazılamayanlar
+    // geçici olabileceğinden kaydedilmez
+    private void recordFailures(List<QueuedTicket> queued, TicketBatchResponse.Item[] items, List<Integer> unwritten) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Integer> retry = new HashSet<>(unwritten);
+        List<TicketIntakeEntity> failures = new ArrayList<>();
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].ticketId() == null && !retry.contains(i)) {
+                failures.add(intakeResult(queued.get(i), null, truncate(items[i].error()), now));
+            }
+        }
+        if (!failures.isEmpty()) {
+            intakeRepository.saveAll(failures);
+        }
+    }
+
+    private static TicketIntakeEntity intakeResult(QueuedTicket q, Long ticketId, String error, LocalDateTime now) {
+        return TicketIntakeEntity.builder()
+                .token(q.token())
+                .ticketId(ticketId)
+                .error(error)
+                .acceptedDate(q.acceptedDate())
+                .processedDate(now)
+                .build();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    // Email -> müşteri. Önbellekte olmayanlar tek IN sorgusuyla okunur, olmayanlar (parçada ilk geçen bilgilerle)
+    // toplu eklenir; ikisi de önbelleğe yazılır (eklenenler commit'ten sonra).
+    private Map<String, CustomerEntity> resolveCustomers(List<PublicTicketRequest> requests) {
+        Set<String> emails = requests.stream().map(PublicTicketRequest::email).collect(Collectors.toSet());
+        Map<String, CustomerEntity> byEmail = customerDirectory.findCached(emails);
+        List<String> unknown = emails.stream().filter(e -> !byEmail.containsKey(emailKey(e))).toList();
+        List<CustomerEntity> found = unknown.isEmpty() ? List.of() : customerRepository.findByEmailIn(unknown);
+        for (CustomerEntity c : found) {
+            byEmail.put(emailKey(c.getEmail()), c);
+        }
+
+        List<CustomerEntity> missing = new ArrayList<>();
+        for (PublicTicketRequest req : requests) {
+            byEmail.computeIfAbsent(emailKey(req.email()), k -> {
+                CustomerEntity c = CustomerEntity.builder()
+                        .email(req.email())
+                        .name(req.firstName())
+                        .surname(req.lastName())
+                        .phone(req.phone())
+                        .build();
+                missing.add(c);
+                return c;
+            });
+        }
+        customerRepository.saveAll(missing);
+        customerDirectory.remember(found, missing);
+        return byEmail;
+    }
+
+    private static String emailKey(String email) {
+        return CustomerDirectory.emailKey(email);
+    }
+}
@@ -0,0 +1,364 @@
+package com.example.ticket_service.service.impl;
+
+import com.example.ticket_service.cache.DepartmentDirectory;
+import com.example.ticket_service.cache.DepartmentNames;
+import com.example.ticket_service.cache.PersonDirectory;
+import com.example.ticket_service.cache.PersonLookup;
+import com.example.ticket_service.client.PersonSummary;
+import com.example.ticket_service.dto.request.TicketCursor;
+import com.example.ticket_service.dto.response.TicketResponse;
+import com.example.ticket_service.dto.response.TicketViewRebuildStatus;
+import com.example.ticket_service.entity.CustomerEntity;
+import com.example.ticket_service.entity.TicketEntity;
+import com.example.ticket_service.entity.TicketViewEntity;
+import com.example.ticket_service.repository.CustomerRepository;
+import com.example.ticket_service.repository.TicketRepository;
+import com.example.ticket_service.repository.TicketViewRepository;
+import com.example.ticket_service.search.TicketSearchIndex;
+import com.example.ticket_service.service.TicketViewService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketViewImpl implements TicketViewService {
+
+    private final TicketRepository ticketRepository;
+    private final TicketViewRepository ticketViewRepository;
+    private final CustomerRepository customerRepository;
+    private final PersonDirectory personDirectory;
+    private final DepartmentDirectory departmentDirectory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketSearchIndex ticketSearchIndex;
+
+    // Yeniden oluşturma işinde tek seferde okunup yazılacak ticket sayısı
+    @Value("${ticket.view.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private final AtomicReference<TicketViewRebuildStatus> rebuildStatus =
+            new AtomicReference<>(TicketViewRebuildStatus.IDLE);
+
+    @Override
+    public void prepare(Collection<Long> personIds) {
+        String token = currentToken();
+        personDirectory.getAll(personIds, token);
+        departmentDirectory.snapshot(token);
+    }
+
+    @Override
+    public TicketResponse refresh(TicketEntity ticket) {
+        TicketRow row = toRow(ticket);
+        TicketResponse response = hydrateCached(List.of(row)).get(0);
+        ticketViewRepository.save(toView(row, response));
+        return response;
+    }
+
+    // Satırlar yeni olduğundan merge (satır başına SELECT) yerine persist edilir
+    @Override
+    public List<TicketResponse> createAll(List<TicketEntity> tickets) {
+        List<TicketRow> rows = tickets.stream().map(this::toRow).toList();
+        List<TicketResponse> responses = hydrateCached(rows);
+        for (int i = 0; i < rows.size(); i++) {
+            entityManager.persist(toView(rows.get(i), responses.get(i)));
+        }
+        return responses;
+    }
+
+    // İş ayrı bir thread'de çalışır; her parçanın kişileri person-service'ten transaction dışında yüklenir ve parça
+    // kendi kısa transaction'ında yazılır, böylece uzun bir iş ne isteği ne de bağlantıları bekletir.
+    @Override
+    public TicketViewRebuildStatus startRebuild() {
+        TicketViewRebuildStatus current = rebuildStatus.get();
+        if (current.state() == TicketViewRebuildStatus.State.RUNNING) {
+            return current;
+        }
+        TicketViewRebuildStatus started = TicketViewRebuildStatus.builder()
+                .state(TicketViewRebuildStatus.State.RUNNING)
+                .startedDate(LocalDateTime.now())
+                .build();
+        if (!rebuildStatus.compareAndSet(current, started)) {
+            return rebuildStatus.get();
+        }
+        // Departman adları isteğin token'ıyla tazelenir; iş token'dan uzun sürebileceğinden person-service'e
+        // servis token'ıyla gidilir
+        departmentDirectory.snapshot(currentToken());
+        Thread.ofPlatform().name("ticket-view-rebuild").daemon().start(this::rebuild);
+        return started;
+    }
+
+    @Override
+    public TicketViewRebuildStatus rebuildStatus() {
+        return rebuildStatus.get();
+    }
+
+    private void rebuild() {
+        TicketCursor after = TicketCursor.FIRST;
+        int total = 0;
+        try {
+            while (true) {
+                List<TicketEntity> page = ticketRepository.findPage(
+                        after.createdDate(), after.ticketId(), Limit.of(rebuildBatchSize));
+                if (page.isEmpty()) break;
+
+                List<TicketRow> rows = page.stream().map(this::toRow).toList();
+                personDirectory.getAll(personIdsOf(rows), null);
+                List<Long> ticketIds = page.stream().map(TicketEntity::getId).toList();
+                total += transactionTemplate.execute(status -> rebuildPage(ticketIds));
+                int rebuilt = total;
+                rebuildStatus.updateAndGet(s -> s.toBuilder().rebuilt(rebuilt).build());
+
+                TicketEntity last = page.get(page.size() - 1);
+                after = new TicketCursor(last.getCreatedDate(), last.getId());
+            }
+            log.info("ticket_view yeniden oluşturuldu: {} ticket", total);
+            finishRebuild(TicketViewRebuildStatus.State.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("ticket_view yeniden oluşturulamadı ({} ticket yazıldıktan sonra)", total, e);
+            finishRebuild(TicketViewRebuildStatus.State.FAILED, e.getMessage());
+        }
+    }
+
+    // Sayfa, yazma işlemleriyle aynı satır kilidi altında yeniden okunup yazılır: okumadan sonra commit olan bir
+    // take/reassign/close eski değerle ezilmez; arada commit olan okunur, sonra gelen bu transaction'ı bekler ve
+    // kendi satırını üzerine yazar. Ticket'ı yeni kişiye geçmişse satır degraded yazılır, onarım işi tamamlar.
+    private int rebuildPage(List<Long> ticketIds) {
+        List<TicketEntity> tickets = ticketRepository.findAllForUpdate(ticketIds);
+        // Müşteriler tek sorguyla oturuma alınır (lazy ilişkiler ticket başına sorgu atmaz)
+        Set<Long> customerIds = new HashSet<>();
+        for (TicketEntity t : tickets) {
+            if (t.getCreatorCustomer() != null) customerIds.add(t.getCreatorCustomer().getId());
+        }
+        customerRepository.findAllById(customerIds);
+
+        List<TicketRow> rows = tickets.stream().map(this::toRow).toList();
+        List<TicketResponse> responses = hydrateCached(rows);
+        List<TicketViewEntity> views = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            views.add(toView(rows.get(i), responses.get(i)));
+        }
+        ticketViewRepository.saveAll(views);
+        return views.size();
+    }
+
+    private void finishRebuild(TicketViewRebuildStatus.State state, String error) {
+        rebuildStatus.updateAndGet(s -> s.toBuilder()
+                .state(state)
+                .finishedDate(LocalDateTime.now())
+                .error(error)
+                .build());
+    }
+
+    // person-service kesintisinde yazılan satırlar kendiliğinden düzelmez (okuma modeli yalnızca ticket’a yazıldığında
+    // güncellenir); breaker kapandıktan sonraki ilk turda tamamlanır
+    @Scheduled(fixedDelayString = "${ticket.view.repair-interval:30s}", initialDelayString = "${ticket.view.repair-interval:30s}")
+    public void repairDegradedRows() {
+        try {
+            int repaired = repairDegraded();
+            if (repaired > 0) {
+                log.info("ticket_view: person bilgisi eksik {} satır tamamlandı", repaired);
+            }
+        } catch (RuntimeException e) {
+            log.warn("ticket_view onarımı başarısız: {}", e.getMessage());
+        }
+    }
+
+    // Person’lar transaction dışında yüklenir; satırlar kısa bir transaction’da yeniden okunup yalnızca person
+    // alanları yazılır (arada ticket değiştiyse yeni kişi yüklenmemiş olabilir, o satır sonraki tura kalır).
+    @Override
+    public int repairDegraded() {
+        if (personDirectory.isDegraded()) {
+            return 0;
+        }
+        long after = 0;
+        int repaired = 0;
+        while (true) {
+            List<TicketViewEntity> page = ticketViewRepository.findDegradedAfter(after, Limit.of(rebuildBatchSize));
+            if (page.isEmpty()) break;
+
+            Set<Long> personIds = new HashSet<>();
+            for (TicketViewEntity v : page) {
+                if (v.getCreatorPersonId() != null) personIds.add(v.getCreatorPersonId());
+                if (v.getAssigneePersonId() != null) personIds.add(v.getAssigneePersonId());
+            }
+            PersonLookup persons = personDirectory.getAll(personIds, null);
+            if (persons.degraded()) {
+                log.debug("ticket_view onarımı ertelendi: person-service hâlâ erişilemiyor");
+                break;
+            }
+            List<Long> ticketIds = page.stream().map(TicketViewEntity::getTicketId).toList();
+            List<Long> fixed = transactionTemplate.execute(status -> applyPersons(ticketIds, personIds, persons));
+            // Oluşturan kişi adı arama dizininde de var
+            ticketSearchIndex.reindex(fixed);
+            repaired += fixed.size();
+            after = ticketIds.get(ticketIds.size() - 1);
+        }
+        return repaired;
+    }
+
+    // Yüklemede istenip bulunamayan person silinmiştir: alan boş kalır, satır yine de düzeltilmiş sayılır
+    private List<Long> applyPersons(List<Long> ticketIds, Set<Long> requested, PersonLookup persons) {
+        List<Long> repaired = new ArrayList<>();
+        for (TicketViewEntity v : ticketViewRepository.findAllById(ticketIds)) {
+            if (!Boolean.TRUE.equals(v.getDegraded())) continue;
+            if ((v.getCreatorPersonId() != null && !requested.contains(v.getCreatorPersonId()))
+                    || (v.getAssigneePersonId() != null && !requested.contains(v.getAssigneePersonId()))) {
+                continue;
+            }
+            PersonSummary creator = v.getCreatorPersonId() != null ? persons.persons().get(v.getCreatorPersonId()) : null;
+            PersonSummary assignee = v.getAssigneePersonId() != null ? persons.persons().get(v.getAssigneePersonId()) : null;
+            v.setCreatorPersonEmail(creator != null ? creator.email() : null);
+            v.setCreatorPersonName(creator != null ? creator.name() : null);
+            v.setCreatorPersonSurname(creator != null ? creator.surname() : null);
+            v.setAssigneeEmail(assignee != null ? assignee.email() : null);
+            v.setAssigneeName(assignee != null ? assignee.name() : null);
+            v.setAssigneeSurname(assignee != null ? assignee.surname() : null);
+            v.setDegraded(false);
+            v.setRefreshedDate(LocalDateTime.now());
+            repaired.add(v.getTicketId());
+        }
+        return repaired;
+    }
+
+    // === Helper: İsteğin bearer token’ı (servisler arası çağrılarda iletilir) ===
+    private String currentToken() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getCredentials() != null ? String.valueOf(auth.getCredentials()) : null;
+    }
+
+    // === Helper: Satırlardaki creator/assignee person id'leri ===
+    private static Set<Long> personIdsOf(List<TicketRow> rows) {
+        Set<Long> personIds = new HashSet<>();
+        for (TicketRow r : rows) {
+            if (r.creatorPersonId() != null) personIds.add(r.creatorPersonId());
+            if (r.assigneePersonId() != null) personIds.add(r.assigneePersonId());
+        }
+        return personIds;
+    }
+
+    // Transaction içindeki dönüşüm: person ve departman bilgisi yalnızca önbellekten (prepare ile yüklenmiş) okunur;
+    // önbellekte olmayan kişinin satırı degraded yazılır ve onarım işiyle tamamlanır
+    private List<TicketResponse> hydrateCached(List<TicketRow> rows) {
+        PersonLookup persons = personDirectory.getCached(personIdsOf(rows));
+        DepartmentNames departments = departmentDirectory.snapshot(null);
+
+        return rows.stream().map(r -> toResponse(r, persons, departments)).toList();
+    }
+
+    // Ticket + anlık atama + son devir (DTO’ya dönüşmeden önceki düz satır)
+    private record TicketRow(Long id,
+                             String customerEmail, String customerName,
+                             String customerSurname, String customerPhone,
+                             Long creatorPersonId,
+                             String issue, String priority, Boolean active,
+                             LocalDateTime createdDate, LocalDateTime closedDate, Boolean employee,
+                             String status, Long departmentId, Long assigneePersonId,
+                             Long fromDepartmentId) {
+    }
+
+    // Entity’den satır: anlık atama ticket üzerindeki kolonlardan okunur
+    private TicketRow toRow(TicketEntity t) {
+        CustomerEntity c = t.getCreatorCustomer();
+        return new TicketRow(t.getId(),
+                c != null ? c.getEmail() : null,
+                c != null ? c.getName() : null,
+                c != null ? c.getSurname() : null,
+                c != null ? c.getPhone() : null,
+                t.getCreatorPersonId(),
+                t.getIssue(), t.getPriority(), t.getActive(),
+                t.getCreatedDate(), t.getClosedDate(), t.getEmployee(),
+                t.getCurrentStatus(),
+                t.getCurrentDepartmentId(),
+                t.getCurrentPersonId(),
+                t.getLastTransferDepartmentId());
+    }
+
+    private TicketResponse toResponse(TicketRow r,
+                                      PersonLookup persons,
+                                      DepartmentNames departments) {
+        // === Creator / Assignee bilgisi (degraded ise eksik olabilir) ===
+        PersonSummary creator = r.creatorPersonId() != null ? persons.persons().get(r.creatorPersonId()) : null;
+        PersonSummary assignee = r.assigneePersonId() != null ? persons.persons().get(r.assigneePersonId()) : null;
+        boolean degraded = persons.degraded()
+                && ((r.creatorPersonId() != null && creator == null)
+                    || (r.assigneePersonId() != null && assignee == null));
+
+        // === Departman adları ===
+        String deptName = departments.nameOf(r.departmentId());
+        String fromDeptName = departments.nameOf(r.fromDepartmentId());
+
+        return TicketResponse.builder()
+                .id(r.id())
+                .customerEmail(r.customerEmail())
+                .customerName(r.customerName())
+                .customerSurname(r.customerSurname())
+                .customerPhone(r.customerPhone())
+                .creatorPersonEmail(creator != null ? creator.email() : null)
+                .creatorPersonName(creator != null ? creator.name() : null)
+                .creatorPersonSurname(creator != null ? creator.surname() : null)
+                .issue(r.issue())
+                .priority(r.priority())
+                .active(r.active())
+                .createdDate(r.createdDate())
+                .closedDate(r.closedDate())
+                .status(r.status())
+                .departmentId(r.departmentId())
+                .departmentName(deptName)
+                .assigneePersonId(r.assigneePersonId())
+                .employee(r.employee())
+                .fromDepartmentId(r.fromDepartmentId())
+                .fromDepartmentName(fromDeptName)
+                .toDepartmentId(r.departmentId())
+                .toDepartmentName(deptName)
+                .assigneeEmail(assignee != null ? assignee.email() : null)
+                .assigneeName(assignee != null ? assignee.name() : null)
+                .assigneeSurname(assignee != null ? assignee.surname() : null)
+                .degraded(degraded)
+                .build();
+    }
+
+    // === Helper: DTO’dan okuma modeli satırı ===
+    private TicketViewEntity toView(TicketRow row, TicketResponse r) {
+        return TicketViewEntity.builder()
+                .ticketId(r.id())
+                .customerEmail(r.customerEmail())
+                .customerName(r.customerName())
+                .customerSurname(r.customerSurname())
+                .customerPhone(r.customerPhone())
+                .creatorPersonId(row.creatorPersonId())
+                .creatorPersonEmail(r.creatorPersonEmail())
+                .creatorPersonName(r.creatorPersonName())
+                .creatorPersonSurname(r.creatorPersonSurname())
+                .issue(r.issue())
+                .priority(r.priority())
+                .active(r.active())
+                .createdDate(r.createdDate())
+                .closedDate(r.closedDate())
+                .employee(r.employee())
+                .status(r.status())
+                .departmentId(r.departmentId())
+                .departmentName(r.departmentName())
+                .assigneePersonId(r.assigneePersonId())
+                .assigneeEmail(r.assigneeEmail())
+                .assigneeName(r.assigneeName())
+                .assigneeSurname(r.assigneeSurname())
+                .fromDepartmentId(r.fromDepartmentId())
+                .fromDepartmentName(r.fromDepartmentName())
+                .degraded(r.degraded())
+                .refreshedDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+-- Ticket’in anlık atama durumu tickets tablosunda tutulur (okumalar ticket_assignments’a inmez)
+ALTER TABLE tickets ADD
+    current_status              NVARCHAR(20) NULL,
+    current_department_id       BIGINT       NULL,
+    current_person_id           BIGINT       NULL,
+    last_transfer_department_id BIGINT       NULL;
+GO
+
+-- Mevcut kayıtlar ticket_assignments'tan doldurulur. Eski take/reassign akışı işlediği satırın department_id'sini
+-- NULL'a çektiğinden alınmış ya da devredilmiş ticket'ların satırlarında departman kalmamıştır:
+--   * anlık departman: en son atamanın departmanı, yoksa departmanı dolu en son atama, o da yoksa atanan
+--     kişinin persons tablosundaki departmanı
+--   * son devir: yeni satırı yalnızca reassign açtığından en son atamadan bir önceki satır son devirdir
+--     (kapatma tüm satırları DONE yaptığı için TRANSFERRED durumuna bakılmaz); devreden departman o satırdaki
+--     kişinin (devreden) departmanıdır
+-- Kişi sonradan departman değiştirdiyse bu iki alan yaklaşıktır; yeni işlemler doğrudan yazar.
+WITH ranked AS (
+    SELECT a.ticket_id, a.status, a.department_id, a.person_id,
+           ROW_NUMBER() OVER (PARTITION BY a.ticket_id
+                              ORDER BY a.assigned_date DESC, a.assignment_id DESC) AS rn
+    FROM ticket_assignments a
+)
+UPDATE t
+SET t.current_status        = l.status,
+    t.current_department_id = COALESCE(l.department_id, known.department_id, p.department_id),
+    t.current_person_id     = l.person_id
+FROM tickets t
+JOIN ranked l ON l.ticket_id = t.ticket_id AND l.rn = 1
+LEFT JOIN dbo.persons p ON p.person_id = l.person_id
+OUTER APPLY (
+    SELECT TOP 1 k.department_id
+    FROM ranked k
+    WHERE k.ticket_id = t.ticket_id AND k.department_id IS NOT NULL
+    ORDER BY k.rn
+) known;
+GO
+
+WITH ranked AS (
+    SELECT a.ticket_id, a.department_id, a.person_id,
+           ROW_NUMBER() OVER (PARTITION BY a.ticket_id
+                              ORDER BY a.assigned_date DESC, a.assignment_id DESC) AS rn
+    FROM ticket_assignments a
+)
+UPDATE t
+SET t.last_transfer_department_id = COALESCE(prev.department_id, p.department_id)
+FROM tickets t
+JOIN ranked prev ON prev.ticket_id = t.ticket_id AND prev.rn = 2
+LEFT JOIN dbo.persons p ON p.person_id = prev.person_id;
+GO
+
+-- Liste filtreleri (keyset sırası ile)
+CREATE INDEX IX_tickets_current_department
+    ON tickets(current_department_id, created_date DESC, ticket_id DESC);
+CREATE INDEX IX_tickets_current_person
+    ON tickets(current_person_id, current_status, created_date DESC, ticket_id DESC);
+CREATE INDEX IX_tickets_created
+    ON tickets(created_date DESC, ticket_id DESC);
+CREATE INDEX IX_tickets_creator_person
+    ON tickets(creator_person_id, created_date DESC, ticket_id DESC);
+GO
@@ -0,0 +1,88 @@
+-- Okuma modeli: TicketResponse’un ihtiyaç duyduğu her şey tek satırda (yazma anında güncellenir)
+CREATE TABLE ticket_view (
+    ticket_id              BIGINT        NOT NULL PRIMARY KEY,
+
+    customer_email         NVARCHAR(255) NULL,
+    customer_name          NVARCHAR(50)  NULL,
+    customer_surname       NVARCHAR(50)  NULL,
+    customer_phone         NVARCHAR(50)  NULL,
+
+    creator_person_id      BIGINT        NULL,
+    creator_person_email   NVARCHAR(255) NULL,
+    creator_person_name    NVARCHAR(255) NULL,
+    creator_person_surname NVARCHAR(255) NULL,
+
+    issue                  NVARCHAR(MAX) NOT NULL,
+    priority               NVARCHAR(50)  NOT NULL,
+    is_active              BIT           NULL,
+    created_date           DATETIME2     NULL,
+    closed_date            DATETIME2     NULL,
+    is_employee            BIT           NOT NULL DEFAULT 0,
+
+    status                 NVARCHAR(20)  NULL,
+    department_id          BIGINT        NULL,
+    department_name        NVARCHAR(255) NULL,
+
+    assignee_person_id     BIGINT        NULL,
+    assignee_email         NVARCHAR(255) NULL,
+    assignee_name          NVARCHAR(255) NULL,
+    assignee_surname       NVARCHAR(255) NULL,
+
+    from_department_id     BIGINT        NULL,
+    from_department_name   NVARCHAR(255) NULL,
+
+    refreshed_date         DATETIME2     NOT NULL DEFAULT SYSUTCDATETIME()
+);
+GO
+
+ALTER TABLE ticket_view
+    ADD CONSTRAINT FK_ticket_view_ticket
+        FOREIGN KEY (ticket_id) REFERENCES tickets(ticket_id)
+            ON DELETE CASCADE;
+GO
+
+-- Liste uçları (keyset sırası ile)
+CREATE INDEX IX_tv_created    ON ticket_view(created_date DESC, ticket_id DESC);
+CREATE INDEX IX_tv_department ON ticket_view(department_id, created_date DESC, ticket_id DESC);
+CREATE INDEX IX_tv_assignee   ON ticket_view(assignee_person_id, status, created_date DESC, ticket_id DESC);
+CREATE INDEX IX_tv_creator    ON ticket_view(creator_person_id, created_date DESC, ticket_id DESC);
+GO
+
+-- Listeler artık ticket_view’dan okunuyor (IX_tickets_created yeniden oluşturma işi için kalır)
+DROP INDEX IX_tickets_current_department ON tickets;
+DROP INDEX IX_tickets_current_person ON tickets;
+DROP INDEX IX_tickets_creator_person ON tickets;
+GO
+
+-- Mevcut ticket’lar: person ve departman adları ortak veritabanındaki tablolardan doldurulur
+-- (sonraki eşitlemeler POST /api/admin/tickets/view/rebuild ile person-service üzerinden yapılır)
+INSERT INTO ticket_view (
+    ticket_id,
+    customer_email, customer_name, customer_surname, customer_phone,
+    creator_person_id, creator_person_email, creator_person_name, creator_person_surname,
+    issue, priority, is_active, created_date, closed_date, is_employee,
+    status, department_id, department_name,
+    assignee_person_id, assignee_email, assignee_name, assignee_surname,
+    from_department_id, from_department_name)
+SELECT t.ticket_id,
+       c.email, c.name, c.surname, c.phone,
+       t.creator_person_id, cp.email, cp.name, cp.surname,
+       t.issue, t.priority, t.is_active, t.created_date, t.closed_date, t.is_employee,
+       t.current_status, t.current_department_id,
+       CASE WHEN t.current_department_id IS NULL THEN NULL
+            ELSE COALESCE(d.name, dc.display_name, N'Departman #' + CAST(t.current_department_id AS NVARCHAR(20))) END,
+       t.current_person_id, ap.email, ap.name, ap.surname,
+       t.last_transfer_department_id,
+       CASE WHEN t.last_transfer_department_id IS NULL THEN NULL
+            ELSE COALESCE(fd.name, fc.display_name, N'Departman #' + CAST(t.last_transfer_department_id AS NVARCHAR(20))) END
+FROM tickets t
+LEFT JOIN customers c      ON c.customer_id = t.creator_customer_id
+LEFT JOIN dbo.persons cp   ON cp.person_id = t.creator_person_id
+LEFT JOIN dbo.persons ap   ON ap.person_id = t.current_person_id
+LEFT JOIN dbo.departments d  ON d.department_id = t.current_department_id
+LEFT JOIN dbo.departments fd ON fd.department_id = t.last_transfer_department_id
+OUTER APPLY (SELECT TOP 1 display_name FROM categories
+             WHERE target_department_id = t.current_department_id ORDER BY category_id) dc
+OUTER APPLY (SELECT TOP 1 display_name FROM categories
+             WHERE target_department_id = t.last_transfer_department_id ORDER BY category_id) fc;
+GO
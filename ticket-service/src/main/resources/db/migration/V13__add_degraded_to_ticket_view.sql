@@ -0,0 +1,3 @@
+-- person-service’e ulaşılamadan yazılan okuma modeli satırları (person alanları eksik olabilir)
+ALTER TABLE ticket_view ADD is_degraded BIT NOT NULL DEFAULT 0;
+GO
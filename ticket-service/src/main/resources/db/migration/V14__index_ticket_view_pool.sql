@@ -0,0 +1,6 @@
+-- Departman havuzu: yalnızca aktif ticket’lar, departman + durum ile
+CREATE INDEX IX_tv_pool
+    ON ticket_view(department_id, status)
+    INCLUDE (priority, created_date)
+    WHERE is_active = 1;
+GO
@@ -0,0 +1,170 @@
+-- customers, tickets ve ticket_assignments IDENTITY yerine sequence kullanır.
+-- IDENTITY'de id ancak INSERT'ten sonra öğrenildiği için Hibernate her satırı ayrı round trip ile yazar
+-- (hibernate.jdbc.batch_size etkisiz kalır). IDENTITY özelliği sütundan kaldırılamadığından tablolar
+-- yeniden kurulur: eski tablo yeniden adlandırılır -> yeni tablo -> veri kopyası -> kısıt/indeksler.
+--
+-- Sequence'ler INCREMENT BY 50 (entity'lerdeki allocationSize ile aynı olmalı) ve START WITH MAX(id) + 50:
+-- Hibernate pooled optimizer ilk okuduğu değeri bloğun üst sınırı sayar, ilk blok MAX(id) + 1'den başlar.
+-- Not: id'ler bloklar halinde dağıtıldığından sıralı/boşluksuz değildir; tablolara elle INSERT yapılmamalı.
+
+-- Yalnızca ticket-service'in tabloları yeniden kurulur. persons/departments'a giden FK'ler bu tabloların kendi
+-- kısıtlarıdır; persons (users ve ticket tablolarından referans alır) IDENTITY'de kalır.
+
+-- 1) Yeniden kurulacak tablolara bağlı FK'ler ve adlı kısıtlar (adlar yeni tablolarda tekrar kullanılacak)
+ALTER TABLE ticket_view        DROP CONSTRAINT IF EXISTS FK_ticket_view_ticket;
+ALTER TABLE ticket_assignments DROP CONSTRAINT IF EXISTS FK_ta_ticket;
+ALTER TABLE ticket_assignments DROP CONSTRAINT IF EXISTS FK_ta_department;
+ALTER TABLE ticket_assignments DROP CONSTRAINT IF EXISTS FK_ta_person;
+ALTER TABLE ticket_assignments DROP CONSTRAINT IF EXISTS CK_ticket_assignments_target;
+ALTER TABLE tickets            DROP CONSTRAINT IF EXISTS FK_ticket_creator_customers;
+ALTER TABLE tickets            DROP CONSTRAINT IF EXISTS Fk_ticket_creator_persons;
+ALTER TABLE tickets            DROP CONSTRAINT IF EXISTS CK_tickets_creator;
+GO
+
+EXEC sp_rename 'dbo.customers', 'customers_old';
+EXEC sp_rename 'dbo.tickets', 'tickets_old';
+EXEC sp_rename 'dbo.ticket_assignments', 'ticket_assignments_old';
+GO
+
+-- 2) Sequence'ler (START WITH sabit olmak zorunda, dinamik SQL ile)
+DECLARE @sql NVARCHAR(400);
+
+SELECT @sql = N'CREATE SEQUENCE dbo.customers_seq AS BIGINT START WITH '
+    + CAST(ISNULL(MAX(customer_id), 0) + 50 AS NVARCHAR(20)) + N' INCREMENT BY 50'
+FROM customers_old;
+EXEC sp_executesql @sql;
+
+SELECT @sql = N'CREATE SEQUENCE dbo.tickets_seq AS BIGINT START WITH '
+    + CAST(ISNULL(MAX(ticket_id), 0) + 50 AS NVARCHAR(20)) + N' INCREMENT BY 50'
+FROM tickets_old;
+EXEC sp_executesql @sql;
+
+SELECT @sql = N'CREATE SEQUENCE dbo.ticket_assignments_seq AS BIGINT START WITH '
+    + CAST(ISNULL(MAX(assignment_id), 0) + 50 AS NVARCHAR(20)) + N' INCREMENT BY 50'
+FROM ticket_assignments_old;
+EXEC sp_executesql @sql;
+GO
+
+-- 3) Yeni tablolar (IDENTITY hariç sütunlar aynı)
+CREATE TABLE customers(
+    customer_id BIGINT NOT NULL PRIMARY KEY,
+    name NVARCHAR(50) NOT NULL,
+    surname NVARCHAR(50) NOT NULL,
+    email NVARCHAR(255) NOT NULL UNIQUE,
+    phone NVARCHAR(50) NULL
+);
+
+CREATE TABLE tickets(
+    ticket_id                   BIGINT        NOT NULL PRIMARY KEY,
+    issue                       NVARCHAR(MAX) NOT NULL,
+    priority                    NVARCHAR(50)  NOT NULL,
+    is_active                   BIT           DEFAULT 1,
+    created_date                DATETIME2,
+    closed_date                 DATETIME2,
+    is_employee                 BIT           NOT NULL DEFAULT 0,
+    creator_customer_id         BIGINT        NULL,
+    creator_person_id           BIGINT        NULL,
+    current_status              NVARCHAR(20)  NULL,
+    current_department_id       BIGINT        NULL,
+    current_person_id           BIGINT        NULL,
+    last_transfer_department_id BIGINT        NULL
+);
+
+CREATE TABLE ticket_assignments (
+    assignment_id   BIGINT       NOT NULL PRIMARY KEY,
+    ticket_id       BIGINT       NOT NULL,
+    is_in_pool      BIT          NOT NULL DEFAULT 0,
+    department_id   BIGINT       NULL,
+    person_id       BIGINT       NULL,
+    assigned_date   DATETIME2    NULL,
+    completed_date  DATETIME2    NULL,
+    status          NVARCHAR(20) NOT NULL DEFAULT 'OPEN'
+);
+GO
+
+-- 4) Veri kopyası
+INSERT INTO customers (customer_id, name, surname, email, phone)
+SELECT customer_id, name, surname, email, phone
+FROM customers_old;
+
+INSERT INTO tickets (ticket_id, issue, priority, is_active, created_date, closed_date, is_employee,
+                     creator_customer_id, creator_person_id,
+                     current_status, current_department_id, current_person_id, last_transfer_department_id)
+SELECT ticket_id, issue, priority, is_active, created_date, closed_date, is_employee,
+       creator_customer_id, creator_person_id,
+       current_status, current_department_id, current_person_id, last_transfer_department_id
+FROM tickets_old;
+
+INSERT INTO ticket_assignments (assignment_id, ticket_id, is_in_pool, department_id, person_id,
+                                assigned_date, completed_date, status)
+SELECT assignment_id, ticket_id, is_in_pool, department_id, person_id,
+       assigned_date, completed_date, status
+FROM ticket_assignments_old;
+GO
+
+DROP TABLE ticket_assignments_old;
+DROP TABLE tickets_old;
+DROP TABLE customers_old;
+GO
+
+-- 5) Kısıtlar ve indeksler (V6, V7, V11, V12 ile aynı)
+ALTER TABLE tickets
+    ADD CONSTRAINT CK_tickets_creator
+        CHECK(
+            (is_employee=1 AND creator_person_id IS NOT NULL AND creator_customer_id IS NULL) OR
+            (is_employee=0 AND creator_customer_id IS NOT NULL AND creator_person_id IS NULL)
+            );
+
+ALTER TABLE tickets
+    ADD CONSTRAINT FK_ticket_creator_customers
+        FOREIGN KEY (creator_customer_id) REFERENCES customers(customer_id);
+
+ALTER TABLE tickets
+    ADD CONSTRAINT Fk_ticket_creator_persons
+        FOREIGN KEY (creator_person_id) REFERENCES dbo.persons(person_id);
+
+CREATE INDEX IX_tickets_created
+    ON tickets(created_date DESC, ticket_id DESC);
+GO
+
+ALTER TABLE ticket_assignments
+    ADD CONSTRAINT CK_ticket_assignments_target
+        CHECK (
+            (is_in_pool = 1 AND department_id IS NULL AND person_id IS NULL)
+                OR
+            (is_in_pool = 0 AND (
+                (department_id IS NOT NULL AND person_id IS NULL) OR
+                (department_id IS NULL AND person_id IS NOT NULL)
+                ))
+            );
+
+CREATE INDEX IX_ta_ticket     ON ticket_assignments(ticket_id);
+CREATE INDEX IX_ta_department ON ticket_assignments(department_id);
+CREATE INDEX IX_ta_person     ON ticket_assignments(person_id);
+CREATE INDEX IX_ta_status     ON ticket_assignments(status);
+
+CREATE UNIQUE INDEX UX_ta_pool_per_ticket
+    ON ticket_assignments(ticket_id)
+    WHERE is_in_pool = 1;
+
+ALTER TABLE ticket_assignments
+    ADD CONSTRAINT FK_ta_ticket
+        FOREIGN KEY (ticket_id) REFERENCES tickets(ticket_id)
+            ON DELETE CASCADE;
+
+ALTER TABLE ticket_assignments
+    ADD CONSTRAINT FK_ta_department
+        FOREIGN KEY (department_id) REFERENCES dbo.departments(department_id)
+            ON DELETE SET NULL;
+
+ALTER TABLE ticket_assignments
+    ADD CONSTRAINT FK_ta_person
+        FOREIGN KEY (person_id) REFERENCES dbo.persons(person_id)
+            ON DELETE SET NULL;
+GO
+
+ALTER TABLE ticket_view
+    ADD CONSTRAINT FK_ticket_view_ticket
+        FOREIGN KEY (ticket_id) REFERENCES tickets(ticket_id)
+            ON DELETE CASCADE;
+GO
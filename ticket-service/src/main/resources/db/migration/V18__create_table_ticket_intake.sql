@@ -0,0 +1,14 @@
+-- Asenkron public ticket alımının sonuçları (intake token -> oluşan ticket ya da hata).
+-- Satır, ticket'larla aynı transaction'da yazılır: kuyruk tüketicisi çökme sonrası aynı kaydı tekrar
+-- işlerse token burada bulunur ve ticket ikinci kez oluşturulmaz. Durum sorgusu da buradan cevaplanır.
+CREATE TABLE ticket_intake (
+    intake_token   CHAR(36)      NOT NULL PRIMARY KEY,
+    ticket_id      BIGINT        NULL,
+    error          NVARCHAR(500) NULL,
+    accepted_date  DATETIME2     NOT NULL,
+    processed_date DATETIME2     NOT NULL,
+    CONSTRAINT FK_ticket_intake_ticket
+        FOREIGN KEY (ticket_id) REFERENCES tickets(ticket_id)
+            ON DELETE CASCADE
+);
+GO
@@ -0,0 +1,3 @@
+-- Person alanları eksik (is_degraded = 1) okuma modeli satırları: onarım işi bunları tarar
+CREATE INDEX IX_tv_degraded ON ticket_view(ticket_id) WHERE is_degraded = 1;
+GO
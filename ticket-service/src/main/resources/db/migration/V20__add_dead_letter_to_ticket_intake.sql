@@ -0,0 +1,8 @@
+-- Tekrar denemelere rağmen yazılamayan kuyruk öğeleri (dead-letter): hata ve istek gövdesi (JSON) incelenip
+-- elle yeniden gönderilebilsin diye saklanır; alım log'undaki kayıt checkpoint'le silinir.
+ALTER TABLE ticket_intake ADD
+    is_dead_letter BIT           NOT NULL DEFAULT 0,
+    payload        NVARCHAR(MAX) NULL;
+GO
+CREATE INDEX IX_ticket_intake_dead_letter ON ticket_intake(processed_date) WHERE is_dead_letter = 1;
+GO
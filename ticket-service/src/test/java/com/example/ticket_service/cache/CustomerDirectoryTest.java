@@ -0,0 +1,104 @@
+package com.example.ticket_service.cache;
+
+import com.example.ticket_service.entity.CustomerEntity;
+import com.example.ticket_service.repository.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CustomerDirectoryTest {
+
+	private static final DuplicateKeyException DUPLICATE = new DuplicateKeyException("UQ_customers_email");
+
+	private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+	private MockedConstruction<JdbcTemplate> jdbcTemplates;
+	private JdbcTemplate jdbcTemplate;
+	private CustomerDirectory directory;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplates = mockConstruction(JdbcTemplate.class);
+		directory = spy(new CustomerDirectory(customerRepository, mock(EntityManager.class), mock(DataSource.class),
+				new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)));
+		jdbcTemplate = jdbcTemplates.constructed().getFirst();
+		// Hibernate üreteci yerine sıralı id'ler
+		doReturn(1L, 2L, 3L, 4L).when(directory).nextId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplates.close();
+	}
+
+	@Test
+	void newCustomerIsInsertedOnceAndThenServedFromCache() {
+		CustomerEntity created = directory.resolve("Ayse@Example.com", "Ayşe", "Yılmaz", null);
+
+		assertThat(created.getId()).isEqualTo(1L);
+		assertThat(created.getEmail()).isEqualTo("Ayse@Example.com");
+
+		CustomerEntity again = directory.resolve(" ayse@example.com", "Ayşe", "Yılmaz", null);
+
+		assertThat(again.getId()).isEqualTo(1L);
+		assertThat(again).isNotSameAs(created);
+		verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+		verifyNoInteractions(customerRepository);
+		assertThat(directory.findCached(List.of("AYSE@example.com"))).containsOnlyKeys("ayse@example.com");
+	}
+
+	@Test
+	void duplicateEmailResolvesToTheExistingRow() {
+		when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(DUPLICATE);
+		when(customerRepository.findByEmail("mehmet@example.com")).thenReturn(Optional.of(customer(7L)));
+
+		assertThat(directory.resolve("mehmet@example.com", "Mehmet", "Kaya", "555").getId()).isEqualTo(7L);
+		assertThat(directory.resolve("mehmet@example.com", "Mehmet", "Kaya", "555").getId()).isEqualTo(7L);
+
+		verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+		verify(customerRepository, times(1)).findByEmail("mehmet@example.com");
+	}
+
+	@Test
+	void insertIsRetriedWhenTheConflictingRowWasRolledBack() {
+		when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(DUPLICATE).thenReturn(1);
+		when(customerRepository.findByEmail("mehmet@example.com")).thenReturn(Optional.empty());
+
+		CustomerEntity created = directory.resolve("mehmet@example.com", "Mehmet", "Kaya", null);
+
+		// Her deneme yeni bir id alır
+		assertThat(created.getId()).isEqualTo(2L);
+		verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+	}
+
+	@Test
+	void givesUpAfterThreeConflictsWithoutARow() {
+		when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(DUPLICATE);
+		when(customerRepository.findByEmail("mehmet@example.com")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> directory.resolve("mehmet@example.com", "Mehmet", "Kaya", null))
+				.isSameAs(DUPLICATE);
+		verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class));
+		assertThat(directory.findCached(List.of("mehmet@example.com"))).isEmpty();
+	}
+
+	private static CustomerEntity customer(Long id) {
+		return CustomerEntity.builder().id(id).email("mehmet@example.com").name("Mehmet").surname("Kaya")
+				.phone("555").build();
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.ticket_service.dto.request;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketCursorTest {
+
+	@Test
+	void encodedCursorParsesBackToTheSameKey() {
+		TicketCursor cursor = new TicketCursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000), 4242L);
+
+		String encoded = cursor.encode();
+
+		assertThat(encoded).doesNotContain("=", "+", "/");
+		assertThat(TicketCursor.parse(encoded)).isEqualTo(cursor);
+	}
+
+	@Test
+	void roundTripKeepsWholeSecondTimestamps() {
+		// LocalDateTime.toString saniyesi sıfır olan anları "HH:mm" olarak yazar
+		TicketCursor cursor = new TicketCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+
+		assertThat(TicketCursor.parse(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void missingCursorMeansFirstPage() {
+		assertThat(TicketCursor.parse(null)).isSameAs(TicketCursor.FIRST);
+		assertThat(TicketCursor.parse("  ")).isSameAs(TicketCursor.FIRST);
+	}
+
+	@Test
+	void firstPageSortsAfterEveryRealTicket() {
+		assertThat(TicketCursor.FIRST.createdDate()).isAfter(LocalDateTime.of(9999, 1, 1, 0, 0));
+		assertThat(TicketCursor.FIRST.ticketId()).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		assertThatThrownBy(() -> TicketCursor.parse("not base64!"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Geçersiz sayfa imleci");
+		assertThatThrownBy(() -> TicketCursor.parse(encode("2025-01-01T00:00")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> TicketCursor.parse(encode("yesterday|5")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> TicketCursor.parse(encode("2025-01-01T00:00|abc")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,146 @@
+package com.example.ticket_service.intake;
+
+import com.example.ticket_service.dto.request.PublicTicketRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntakeLogTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void deliversAppendedRecordsInLogOrderAndReplaysThemAfterRestart() throws IOException {
+		List<IntakeLog.Entry> delivered = new ArrayList<>();
+		try (IntakeLog log = open(1024 * 1024, delivered)) {
+			assertThat(log.recover()).isEmpty();
+			for (int i = 1; i <= 3; i++) {
+				log.append(record("t" + i));
+			}
+		}
+
+		assertThat(tokens(delivered)).containsExactly("t1", "t2", "t3");
+		assertThat(delivered.get(0).end().offset()).isLessThan(delivered.get(1).end().offset());
+
+		try (IntakeLog log = open(1024 * 1024, new ArrayList<>())) {
+			List<IntakeLog.Entry> replayed = log.recover();
+			assertThat(tokens(replayed)).containsExactly("t1", "t2", "t3");
+			assertThat(replayed.getFirst().record().request().email()).isEqualTo("t1@example.com");
+			assertThat(replayed.getLast().end()).isEqualTo(delivered.getLast().end());
+		}
+	}
+
+	@Test
+	void checkpointSkipsProcessedRecordsAndDeletesOlderSegments() throws IOException {
+		List<IntakeLog.Entry> delivered = new ArrayList<>();
+		// Küçük segment: her kayıt kendi segmentine düşer
+		try (IntakeLog log = open(64, delivered)) {
+			log.recover();
+			for (int i = 1; i <= 4; i++) {
+				log.append(record("t" + i));
+			}
+			log.checkpoint(delivered.get(1).end());
+		}
+
+		assertThat(segments()).allMatch(seg -> seg >= delivered.get(1).end().segment());
+
+		try (IntakeLog log = open(64, new ArrayList<>())) {
+			assertThat(tokens(log.recover())).containsExactly("t3", "t4");
+		}
+	}
+
+	@Test
+	void checkpointInsideSegmentReplaysOnlyTheRest() throws IOException {
+		List<IntakeLog.Entry> delivered = new ArrayList<>();
+		try (IntakeLog log = open(1024 * 1024, delivered)) {
+			log.recover();
+			for (int i = 1; i <= 3; i++) {
+				log.append(record("t" + i));
+			}
+			log.checkpoint(delivered.getFirst().end());
+		}
+
+		try (IntakeLog log = open(1024 * 1024, new ArrayList<>())) {
+			assertThat(tokens(log.recover())).containsExactly("t2", "t3");
+		}
+	}
+
+	@Test
+	void ignoresHalfWrittenLastLine() throws IOException {
+		List<IntakeLog.Entry> delivered = new ArrayList<>();
+		try (IntakeLog log = open(1024 * 1024, delivered)) {
+			log.recover();
+			log.append(record("t1"));
+			log.append(record("t2"));
+		}
+		// Çökme anında satır sonu yazılamamış kayıt
+		Files.writeString(dir.resolve(String.format("%020d.log", delivered.getLast().end().segment())),
+				"{\"token\":\"t3\",\"accepted", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+		try (IntakeLog log = open(1024 * 1024, new ArrayList<>())) {
+			assertThat(tokens(log.recover())).containsExactly("t1", "t2");
+		}
+	}
+
+	@Test
+	void recordsAppendedAfterRecoveryGoToANewSegment() throws IOException {
+		List<IntakeLog.Entry> first = new ArrayList<>();
+		try (IntakeLog log = open(1024 * 1024, first)) {
+			log.recover();
+			log.append(record("t1"));
+		}
+
+		List<IntakeLog.Entry> second = new ArrayList<>();
+		try (IntakeLog log = open(1024 * 1024, second)) {
+			assertThat(tokens(log.recover())).containsExactly("t1");
+			log.append(record("t2"));
+		}
+
+		assertThat(second.getFirst().end().segment()).isGreaterThan(first.getFirst().end().segment());
+		try (IntakeLog log = open(1024 * 1024, new ArrayList<>())) {
+			assertThat(tokens(log.recover())).containsExactly("t1", "t2");
+		}
+	}
+
+	private IntakeLog open(long segmentBytes, List<IntakeLog.Entry> delivered) throws IOException {
+		return new IntakeLog(dir, objectMapper, segmentBytes, true, delivered::add);
+	}
+
+	private static IntakeLog.Record record(String token) {
+		PublicTicketRequest request = new PublicTicketRequest(token + "@example.com", "Ad", "Soyad", null,
+				"Sorun " + token, "LOW", 1);
+		return new IntakeLog.Record(token, LocalDateTime.of(2025, 1, 1, 12, 0), request);
+	}
+
+	private static List<String> tokens(List<IntakeLog.Entry> entries) {
+		return entries.stream().map(e -> e.record().token()).toList();
+	}
+
+	private List<Long> segments() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.map(p -> p.getFileName().toString())
+					.filter(n -> n.endsWith(".log"))
+					.map(n -> Long.parseLong(n.substring(0, n.length() - 4)))
+					.toList();
+		}
+	}
+}
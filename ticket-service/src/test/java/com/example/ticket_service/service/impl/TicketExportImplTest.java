@@ -0,0 +1,45 @@
+package com.example.ticket_service.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketExportImplTest {
+
+	@Test
+	void plainFieldsAreWrittenAsIsWithCrlf() throws IOException {
+		assertThat(csv("a", 42L, true)).isEqualTo("a,42,true\r\n");
+	}
+
+	@Test
+	void nullFieldsAreEmpty() throws IOException {
+		assertThat(csv("a", null, null, "b")).isEqualTo("a,,,b\r\n");
+	}
+
+	@Test
+	void fieldsWithSeparatorsAreQuoted() throws IOException {
+		assertThat(csv("Yılmaz, Ayşe", "x")).isEqualTo("\"Yılmaz, Ayşe\",x\r\n");
+		assertThat(csv("satır 1\nsatır 2")).isEqualTo("\"satır 1\nsatır 2\"\r\n");
+		assertThat(csv("a\r\nb")).isEqualTo("\"a\r\nb\"\r\n");
+	}
+
+	@Test
+	void quotesAreDoubledInsideQuotedField() throws IOException {
+		assertThat(csv("ekran \"donuyor\"")).isEqualTo("\"ekran \"\"donuyor\"\"\"\r\n");
+	}
+
+	@Test
+	void datesUseIsoFormat() throws IOException {
+		assertThat(csv(LocalDateTime.of(2025, 5, 1, 8, 30, 15))).isEqualTo("2025-05-01T08:30:15\r\n");
+	}
+
+	private static String csv(Object... fields) throws IOException {
+		StringWriter out = new StringWriter();
+		TicketExportImpl.writeCsvLine(out, fields);
+		return out.toString();
+	}
+}
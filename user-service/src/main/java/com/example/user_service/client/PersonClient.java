@@ -1,5 +1,6 @@
 package com.example.user_service.client;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -9,9 +10,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class PersonClient {
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${person.service.url}")
     private String personServiceUrl;
@@ -27,10 +29,11 @@ public class PersonClient {
 
         try {
             ResponseEntity<Map> response = restTemplate.exchange(
-                    personServiceUrl + "/api/persons/" + personId,
+                    personServiceUrl + "/api/persons/{id}",
                     HttpMethod.GET,
                     entity,
-                    Map.class
+                    Map.class,
+                    personId
             );
 
             if (response.getStatusCode().is2xxSuccessful()) {
@@ -93,10 +96,11 @@ public class PersonClient {
 
         try {
             ResponseEntity<Void> response = restTemplate.exchange(
-                    personServiceUrl + "/api/persons/" + personId,
+                    personServiceUrl + "/api/persons/{id}",
                     HttpMethod.DELETE,
                     entity,
-                    Void.class
+                    Void.class,
+                    personId
             );
 
             if (response.getStatusCode().is2xxSuccessful()) {
@@ -1,17 +1,23 @@
 package com.example.user_service.controller;
 
 import com.example.user_service.client.PersonClient;
+import com.example.user_service.dto.response.UserImportResponse;
 import com.example.user_service.entity.UserEntity;
 import com.example.user_service.repository.UserRepository;
+import com.example.user_service.security.password.PasswordHasher;
+import com.example.user_service.service.UserImportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
@@ -22,8 +28,9 @@ import java.util.Map;
 public class AdminController {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final PersonClient personClient;
+    private final UserImportService userImportService;
 
     // TÜM kullanıcıları listele
     @GetMapping
@@ -70,7 +77,7 @@ public class AdminController {
                     .surname((String) person.get("surname"))
                     .email(email)
                     .phone((String) person.get("phone"))
-                    .passwordHash(passwordEncoder.encode(rawPassword))
+                    .passwordHash(passwordHasher.encode(rawPassword))
                     .role("USER")
                     .build();
 
@@ -78,6 +85,9 @@ public class AdminController {
 
             return ResponseEntity.status(HttpStatus.CREATED).body(user);
 
+        } catch (ResponseStatusException e) {
+            // Kendi durumunu taşıyan hatalar (ör. BCrypt havuzu dolu: 503 + Retry-After) olduğu gibi döner
+            throw e;
         } catch (Exception e) {
             log.error("❌ Person’dan user oluşturulamadı: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
@@ -85,13 +95,27 @@ public class AdminController {
         }
     }
 
+    // Toplu kullanıcı içe aktarımı (format=csv | ndjson). Gövde akış olarak okunur;
+    // CSV ilk satırı başlıktır (email,password,name,surname,phone,role). Hatalı satırlar raporda döner.
+    @PostMapping("/import")
+    public ResponseEntity<?> importUsers(@RequestParam(name = "format", defaultValue = "csv") String format,
+                                         InputStream body) throws IOException {
+        try {
+            UserImportService.Format f = UserImportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+            UserImportResponse report = userImportService.importUsers(f, body);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Rol güncelleme
     @PutMapping("/{id}/role")
     public ResponseEntity<?> updateUserRole(@PathVariable Long id, @RequestParam("role") String role) {
         return userRepository.findById(id)
                 .map(user -> {
                     String normalized = role.toUpperCase();
-                    if (!List.of("USER", "PERSON", "ADMIN").contains(normalized)) {
+                    if (!List.of("USER", "PERSON", "ADMIN", "INTEGRATION").contains(normalized)) {
                         return ResponseEntity.badRequest().body(Map.of("error", "Geçersiz rol"));
                     }
                     user.setRole(normalized);
@@ -0,0 +1,19 @@
+package com.example.user_service.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class UserImportResponse {
+    private long total;
+    private long created;
+    private long failed;
+    private long durationMs;
+    // Hatalı satırlar (ilk UserImportServiceImpl.MAX_REPORTED_ERRORS kadarı)
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    public record RowError(long line, String email, String message) {}
+}
@@ -0,0 +1,53 @@
+package com.example.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDateTime;
+
+// Refresh token satırı. Anahtar token'ın SHA-256 özeti olduğundan id uygulamada atanır;
+// Persistable ile save() yeni kayıtta önce SELECT (merge) yapmadan doğrudan INSERT eder.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshTokenEntity implements Persistable<String> {
+    @Id
+    @Column(name = "token_digest")
+    private String tokenDigest;
+
+    @Column(name = "family_id")
+    private String familyId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return tokenDigest;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
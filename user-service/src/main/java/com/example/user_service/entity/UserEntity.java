@@ -2,7 +2,6 @@ package com.example.user_service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
@@ -28,12 +27,6 @@ public class UserEntity {
     @Column(name = "person_id")
     private Long personId;
 
-    @Column(name = "refresh_token_hash")
-    private String refreshTokenHash;
-
-    @Column(name = "refresh_token_expires_at")
-    private LocalDateTime refreshTokenExpires;
-
     @Column(name = "name")
     private String name;
 
@@ -0,0 +1,29 @@
+package com.example.user_service.repository;
+
+import com.example.user_service.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+    // Token'ı tek kullanımlık olarak tüketir; 1 dönerse bu çağrı kazanmıştır, 0 ise token zaten kullanılmış/silinmiş.
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.revokedAt = :now where t.tokenDigest = :digest and t.revokedAt is null")
+    int consume(@Param("digest") String digest, @Param("now") LocalDateTime now);
+
+    // Verilen ailelerdeki henüz iptal edilmemiş tüm token'ları iptal eder.
+    @Transactional
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.revokedAt = :now where t.familyId in :familyIds and t.revokedAt is null")
+    int revokeFamilies(@Param("familyIds") Collection<String> familyIds, @Param("now") LocalDateTime now);
+
+    // Süresi dolmuş satırları siler (iptal edilmiş olanlar da süresi dolana kadar tekrar kullanım tespiti için tutulur).
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,9 +1,11 @@
 package com.example.user_service.security.config;
 
 import com.example.user_service.security.filter.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -37,6 +39,9 @@ public class SecurityConfig {
                 .cors(cors -> {})
                 // Endpoint bazlı yetkilendirme kuralları
                 .authorizeHttpRequests(reg -> reg
+                        // Hata sayfasına (ERROR) dispatch: JwtFilter bu geçişte çalışmaz; izin verilmezse 503 gibi
+                        // hata yanıtları 401'e dönüşür (istek ilk geçişte zaten yetkilendirildi)
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                         // Preflight (OPTIONS) isteklerine izin ver
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         // Public endpointler
@@ -70,10 +75,10 @@ public class SecurityConfig {
         return http.build();
     }
 
-    // Şifreleri güvenli saklamak için BCrypt encoder
+    // Şifreleri güvenli saklamak için BCrypt encoder (maliyet password.bcrypt.strength; değişirse login'de yeniden hashlenir)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     // 401 Unauthorized handler
@@ -12,6 +12,7 @@ import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -57,11 +58,12 @@ public class JwtUtil {
                 .compact();
     }
 
-    // Refresh token üretir
+    // Refresh token üretir. jti her token'ı tekil yapar (aynı saniyede iki login aynı özeti üretmesin).
     public String generateRefreshToken(UserEntity user) {
         Instant now = Instant.now();
         return Jwts.builder()
                 .setClaims(Map.of("type", "refresh"))
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getEmail())
                 .setIssuer(issuer)
                 .setIssuedAt(Date.from(now))
@@ -0,0 +1,187 @@
+package com.example.user_service.security.jwt;
+
+import com.example.user_service.entity.RefreshTokenEntity;
+import com.example.user_service.entity.UserEntity;
+import com.example.user_service.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Refresh token deposu: refresh_tokens tablosu (anahtar = token'ın SHA-256 özeti) + önünde Caffeine önbelleği.
+// Login/refresh artık users satırına yazmaz. Refresh doğrulaması çoğunlukla önbellekten çözülür; token'ı
+// tüketmek tek satırlık koşullu UPDATE'tir (çok instance'ta da tek kullanımı DB garanti eder).
+// Kullanılmış bir token tekrar gelirse (çalınmış olabilir) tüm aile yerelde hemen, DB'de arka planda iptal edilir.
+// Süresi dolan satırlar da arka planda silinir.
+@Component
+@Slf4j
+public class RefreshTokenStore {
+    // Arka plan iptali DB'ye yazılana kadar (ve biraz fazlası) yerelde tutulan iptal listesi
+    private static final Duration REVOKED_FAMILY_TTL = Duration.ofMinutes(10);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final Cache<String, RefreshSession> sessions;
+    private final Cache<String, Boolean> revokedFamilies;
+    private final Set<String> pendingRevocations = ConcurrentHashMap.newKeySet();
+    private final Counter reuseCounter;
+
+    // Önbellekteki aktif token bilgisi
+    public record RefreshSession(Long userId, String familyId, LocalDateTime expiresAt) {}
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             JwtUtil jwtUtil,
+                             MeterRegistry meterRegistry,
+                             @Value("${refresh-token.cache.max-size:100000}") long maxSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, RefreshSession s) -> ttl(s)))
+                .recordStats()
+                .build();
+        this.revokedFamilies = Caffeine.newBuilder()
+                .expireAfterWrite(REVOKED_FAMILY_TTL)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "refresh.tokens");
+        this.reuseCounter = Counter.builder("refresh.token.reuse")
+                .description("Tekrar kullanılan (iptal edilmiş) refresh token denemeleri")
+                .register(meterRegistry);
+    }
+
+    // Yeni refresh token üretip kaydeder. familyId null ise yeni aile başlar (login/register),
+    // değilse rotasyondur. Transaction içindeyse önbelleğe commit sonrası eklenir.
+    public String issue(UserEntity user, String familyId) {
+        String token = jwtUtil.generateRefreshToken(user);
+        String digest = digest(token);
+        RefreshSession session = new RefreshSession(
+                user.getId(),
+                familyId != null ? familyId : UUID.randomUUID().toString(),
+                LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTtlSeconds()));
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenDigest(digest)
+                .familyId(session.familyId())
+                .userId(session.userId())
+                .expiresAt(session.expiresAt())
+                .build());
+        afterCommit(() -> sessions.put(digest, session));
+        return token;
+    }
+
+    // Refresh token'ı doğrular ve tüketir (tek kullanımlık). Çağıran transaction içinde olmalı;
+    // yeni token aynı aile ile issue(...) üzerinden üretilir. Geçersizse IllegalArgumentException fırlatır.
+    public RefreshSession consume(String token) {
+        if (jwtUtil.isTokenInvalid(token))
+            throw new IllegalArgumentException("Geçersiz veya süresi geçmiş refresh token");
+        String digest = digest(token);
+        RefreshSession session = sessions.getIfPresent(digest);
+        if (session == null) {
+            session = load(digest);
+        }
+        if (revokedFamilies.getIfPresent(session.familyId()) != null)
+            throw new IllegalArgumentException("Refresh token iptal edilmiş");
+        if (LocalDateTime.now().isAfter(session.expiresAt()))
+            throw new IllegalArgumentException("Refresh token süresi dolmuş");
+
+        sessions.invalidate(digest);
+        if (refreshTokenRepository.consume(digest, LocalDateTime.now()) == 0) {
+            // Başka bir istek (ya da başka instance) bu token'ı az önce kullandı
+            revokeFamily(session.familyId());
+            throw new IllegalArgumentException("Refresh token eşleşmedi (rotated/invalid)");
+        }
+        return session;
+    }
+
+    // Bekleyen aile iptallerini toplu olarak DB'ye yazar
+    @Scheduled(fixedDelayString = "${refresh-token.revoke-interval:1s}")
+    public void flushRevocations() {
+        if (pendingRevocations.isEmpty()) {
+            return;
+        }
+        List<String> batch = List.copyOf(pendingRevocations);
+        try {
+            int revoked = refreshTokenRepository.revokeFamilies(batch, LocalDateTime.now());
+            batch.forEach(pendingRevocations::remove);
+            log.info("Refresh token ailesi iptal edildi: aile={}, token={}", batch.size(), revoked);
+        } catch (RuntimeException e) {
+            log.warn("Refresh token iptali yazılamadı, tekrar denenecek: {}", e.getMessage());
+        }
+    }
+
+    // Süresi dolmuş refresh token satırlarını siler
+    @Scheduled(fixedDelayString = "${refresh-token.sweep-interval:10m}")
+    public void sweepExpired() {
+        try {
+            int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.debug("Süresi dolmuş {} refresh token silindi", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Refresh token temizliği başarısız: {}", e.getMessage());
+        }
+    }
+
+    // Önbellekte olmayan token (restart, başka instance'ta üretilmiş vb.) DB'den okunur
+    private RefreshSession load(String digest) {
+        RefreshTokenEntity entity = refreshTokenRepository.findById(digest)
+                .orElseThrow(() -> new IllegalArgumentException("Refresh token kayıtlı değil"));
+        if (entity.getRevokedAt() != null) {
+            revokeFamily(entity.getFamilyId());
+            throw new IllegalArgumentException("Refresh token eşleşmedi (rotated/invalid)");
+        }
+        return new RefreshSession(entity.getUserId(), entity.getFamilyId(), entity.getExpiresAt());
+    }
+
+    private void revokeFamily(String familyId) {
+        reuseCounter.increment();
+        log.warn("Refresh token tekrar kullanıldı, aile iptal ediliyor: {}", familyId);
+        revokedFamilies.put(familyId, Boolean.TRUE);
+        sessions.asMap().values().removeIf(s -> s.familyId().equals(familyId));
+        pendingRevocations.add(familyId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Duration ttl(RefreshSession s) {
+        Duration left = Duration.between(LocalDateTime.now(), s.expiresAt());
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+}
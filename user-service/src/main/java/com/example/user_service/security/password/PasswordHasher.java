@@ -0,0 +1,141 @@
+package com.example.user_service.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt işlerini Tomcat thread'leri yerine sınırlı bir havuzda çalıştırır.
+// Havuz (thread sayısı + kuyruk) doluysa istek beklemeden 503 ile reddedilir; böylece login/register patlamasında
+// CPU'yu yalnızca bu havuz kullanır, Tomcat thread'leri refresh ve /me gibi uçlar için boş kalır.
+// Toplu işler (kullanıcı içe aktarımı) ayrı, düşük öncelikli ve bulk-threads (varsayılan çekirdeklerin yarısı) ile
+// sınırlı bir hatta paralel çalışır: login'lerin kuyruğunu doldurmaz ve ne kadar büyük olursa olsun CPU'nun yalnızca
+// o kadarını kullanır.
+// Metrikler: password.hash (op=encode|matches|bulk, saf hash süresi), password.hash.queue, password.hash.bulk.queue,
+// password.hash.rejected.
+@Component
+@Slf4j
+public class PasswordHasher {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer bulkTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.bcrypt.strength:10}") int strength,
+                          @Value("${password.hashing.threads:0}") int threads,
+                          @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hashing.timeout:10s}") Duration timeout,
+                          @Value("${password.hashing.bulk-threads:0}") int bulkThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeout = timeout;
+        // 0 = otomatik: bir çekirdek diğer uçlar için boş bırakılır
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory("bcrypt-", Thread.NORM_PRIORITY),
+                new ThreadPoolExecutor.AbortPolicy());
+        // 0 = otomatik: çekirdeklerin yarısı, kalanı login havuzu ve diğer uçlar için.
+        // Kuyruk sınırı çağıranda: içe aktarım en fazla iki parçayı (batch-size * 2) sıraya koyar
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                threadFactory("bcrypt-bulk-", Thread.MIN_PRIORITY));
+
+        this.encodeTimer = Timer.builder("password.hash").tag("op", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("op", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        this.bulkTimer = Timer.builder("password.hash").tag("op", "bulk")
+                .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("password.hash.bulk.queue", bulkExecutor, e -> e.getQueue().size()).register(meterRegistry);
+        log.info("BCrypt havuzu: {} thread, kuyruk {}, strength {}; toplu hat {} thread",
+                poolSize, queueCapacity, strength, bulkPoolSize);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // Toplu hatta hash: beklemez, reddetmez; sonuç Future'dan alınır
+    public Future<String> encodeBulk(String rawPassword) {
+        return bulkExecutor.submit(() -> bulkTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // Hash yapılandırılan maliyetten düşükse login sırasında yeniden üretilmeli; daha yüksek maliyetli hash
+    // (ör. seed'deki $2b$12$ admin) zayıflatılmaz (BCryptPasswordEncoder.upgradeEncoding ile aynı kural)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return !m.find() || Integer.parseInt(m.group(1)) < strength;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Şifre doğrulama kapasitesi dolu, lütfen tekrar deneyin", 1);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Sırada bekleyen iş boşuna çalışmasın
+            future.cancel(false);
+            rejected.increment();
+            throw new PasswordHashingBusyException("Şifre doğrulama zaman aşımına uğradı, lütfen tekrar deneyin", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Şifre işlemi kesildi", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Şifre işlemi başarısız", e.getCause());
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix, int priority) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(priority);
+            return t;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.user_service.security.password;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// BCrypt havuzu dolu ya da sırada beklerken süre doldu: istemci kısa süre sonra tekrar denemeli (503 + Retry-After)
+public class PasswordHashingBusyException extends ResponseStatusException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(String reason, long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.user_service.service;
+
+import com.example.user_service.dto.response.UserImportResponse;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface UserImportService {
+    enum Format { NDJSON, CSV }
+
+    // Akıştaki kullanıcıları (CSV başlıklı ya da satır başına bir JSON) parça parça içe aktarır; dosya bellekte tutulmaz.
+    // Hatalı satırlar işi durdurmaz, raporda satır numarasıyla döner.
+    UserImportResponse importUsers(Format format, InputStream in) throws IOException;
+}
@@ -0,0 +1,165 @@
+package com.example.user_service.service.impl;
+
+import com.example.user_service.service.UserImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// İçe aktarma akışını satır satır okur (CSV ya da NDJSON) ve parçalar halinde döner.
+// Çözümlenemeyen satırlar atılmaz; hata mesajıyla birlikte döner ki raporda satır numarasıyla görünsün.
+class UserImportReader implements Closeable {
+    private static final List<String> COLUMNS = List.of("email", "password", "name", "surname", "phone", "role");
+
+    record Row(long line, String email, String password, String name, String surname, String phone,
+               String role, String error) {
+
+        static Row invalid(long line, String error) {
+            return new Row(line, null, null, null, null, null, null, error);
+        }
+    }
+
+    private final UserImportService.Format format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> csvColumns;
+    private long line;
+
+    UserImportReader(UserImportService.Format format, InputStream in, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.objectMapper = objectMapper;
+    }
+
+    // En fazla max satır okur; akış bittiyse boş liste döner
+    List<Row> next(int max) throws IOException {
+        if (format == UserImportService.Format.CSV && csvColumns == null) {
+            readCsvHeader();
+        }
+        List<Row> rows = new ArrayList<>(max);
+        String text;
+        while (rows.size() < max && (text = reader.readLine()) != null) {
+            long rowLine = ++line;
+            if (text.isBlank()) {
+                continue;
+            }
+            rows.add(format == UserImportService.Format.CSV ? csvRow(rowLine, text) : jsonRow(rowLine, text));
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // İlk satır başlıktır; sütun sırası serbesttir, email ve password zorunludur
+    private void readCsvHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        if (header == null) {
+            csvColumns = Map.of();
+            return;
+        }
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("email") || !columns.containsKey("password")) {
+            throw new IllegalArgumentException("CSV başlığında email ve password sütunları zorunlu (" + COLUMNS + ")");
+        }
+        csvColumns = columns;
+    }
+
+    private Row csvRow(long rowLine, String text) throws IOException {
+        // Tırnak içindeki satır sonu: kayıt sonraki satırda devam eder
+        StringBuilder record = new StringBuilder(text);
+        while (unbalancedQuotes(record)) {
+            String more = reader.readLine();
+            if (more == null) {
+                return Row.invalid(rowLine, "Kapanmamış tırnak");
+            }
+            line++;
+            record.append('\n').append(more);
+        }
+        List<String> fields = parseCsv(record.toString());
+        return new Row(rowLine, csv(fields, "email"), csv(fields, "password"), csv(fields, "name"),
+                csv(fields, "surname"), csv(fields, "phone"), csv(fields, "role"), null);
+    }
+
+    private String csv(List<String> fields, String column) {
+        Integer i = csvColumns.get(column);
+        if (i == null || i >= fields.size()) {
+            return null;
+        }
+        String v = fields.get(i).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private Row jsonRow(long rowLine, String text) {
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            if (node == null || !node.isObject()) {
+                return Row.invalid(rowLine, "JSON nesnesi bekleniyor");
+            }
+            return new Row(rowLine, json(node, "email"), json(node, "password"), json(node, "name"),
+                    json(node, "surname"), json(node, "phone"), json(node, "role"), null);
+        } catch (JsonProcessingException e) {
+            return Row.invalid(rowLine, "Geçersiz JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static String json(JsonNode node, String field) {
+        JsonNode v = node.get(field);
+        if (v == null || v.isNull()) {
+            return null;
+        }
+        String s = v.asText().trim();
+        return s.isEmpty() ? null : s;
+    }
+
+    private static boolean unbalancedQuotes(CharSequence s) {
+        int quotes = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == '"') quotes++;
+        }
+        return quotes % 2 != 0;
+    }
+
+    // RFC 4180: tırnaklı alanlarda virgül ve satır sonu olabilir, "" tek tırnaktır
+    private static List<String> parseCsv(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
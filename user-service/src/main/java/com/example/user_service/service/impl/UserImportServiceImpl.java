@@ -0,0 +1,198 @@
+package com.example.user_service.service.impl;
+
+import com.example.user_service.dto.response.UserImportResponse;
+import com.example.user_service.security.password.PasswordHasher;
+import com.example.user_service.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Toplu kullanıcı içe aktarımı. Akış batch-size'lık parçalar halinde okunur:
+// - mevcut email'ler tek sorguyla belleğe alınır, tekrarlar (DB'de ya da dosyada) sorgusuz elenir
+// - şifreler PasswordHasher'ın düşük öncelikli toplu hattında hashlenir (login kuyruğu doldurulmaz, CPU payı sınırlı)
+// - bir parça hashlenirken önceki parça tek transaction'da JDBC batch INSERT ile yazılır
+// - batch hata verirse o parça satır satır tekrar denenir; hatalı satır raporlanır, iş durmaz
+// Aynı anda tek içe aktarım çalışır (ikincisi 409).
+@Service
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String SELECT_EMAILS = "select email from users";
+    private static final String INSERT_USER =
+            "insert into users(email, password_hash, role, name, surname, phone) values (?, ?, ?, ?, ?, ?)";
+    private static final Set<String> ROLES = Set.of("USER", "PERSON", "ADMIN", "INTEGRATION");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHasher passwordHasher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public UserImportServiceImpl(DataSource dataSource,
+                                 TransactionTemplate transactionTemplate,
+                                 PasswordHasher passwordHasher,
+                                 ObjectMapper objectMapper,
+                                 @Value("${user.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.transactionTemplate = transactionTemplate;
+        this.passwordHasher = passwordHasher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    // Hash'i beklenen (ya da hatası belli) satır
+    private record Pending(UserImportReader.Row row, Future<String> hash) {}
+
+    // Parça sonuçlarını toplayan rapor
+    private static final class Report {
+        long total;
+        long created;
+        long failed;
+        final List<UserImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(UserImportReader.Row row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new UserImportResponse.RowError(row.line(), row.email(), message));
+            }
+        }
+    }
+
+    @Override
+    public UserImportResponse importUsers(Format format, InputStream in) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Devam eden bir kullanıcı içe aktarımı var");
+        }
+        long start = System.nanoTime();
+        Report report = new Report();
+        List<Pending> previous = List.of();
+        List<Pending> current = List.of();
+        try (UserImportReader reader = new UserImportReader(format, in, objectMapper)) {
+            Set<String> emails = loadEmails();
+            List<UserImportReader.Row> rows;
+            while (!(rows = reader.next(batchSize)).isEmpty()) {
+                report.total += rows.size();
+                current = submit(rows, emails);
+                insert(previous, report);
+                previous = current;
+            }
+            insert(previous, report);
+        } finally {
+            // Yarıda kalan içe aktarımın hash'leri toplu hatta boşuna çalışmasın
+            previous.forEach(p -> p.hash().cancel(false));
+            current.forEach(p -> p.hash().cancel(false));
+            running.set(false);
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Kullanıcı içe aktarımı tamamlandı: toplam={}, eklenen={}, hatalı={}, süre={} ms",
+                report.total, report.created, report.failed, durationMs);
+        return UserImportResponse.builder()
+                .total(report.total)
+                .created(report.created)
+                .failed(report.failed)
+                .durationMs(durationMs)
+                .errors(report.errors)
+                .errorsTruncated(report.failed > report.errors.size())
+                .build();
+    }
+
+    // Mevcut email'leri tek sorguda okur (SQL Server collation'ı büyük/küçük harf duyarsız; set de öyle tutulur)
+    private Set<String> loadEmails() {
+        Set<String> emails = new HashSet<>();
+        jdbcTemplate.query(SELECT_EMAILS, rs -> {
+            emails.add(normalize(rs.getString(1)));
+        });
+        return emails;
+    }
+
+    // Satırları doğrular, tekrarları eler ve geçerli olanların hash'ini toplu hatta verir
+    private List<Pending> submit(List<UserImportReader.Row> rows, Set<String> emails) {
+        List<Pending> pending = new ArrayList<>(rows.size());
+        for (UserImportReader.Row row : rows) {
+            String error = validate(row);
+            if (error == null && !emails.add(normalize(row.email()))) {
+                error = "Email zaten kayıtlı: " + row.email();
+            }
+            if (error != null) {
+                pending.add(new Pending(row, CompletableFuture.failedFuture(new IllegalArgumentException(error))));
+            } else {
+                pending.add(new Pending(row, passwordHasher.encodeBulk(row.password())));
+            }
+        }
+        return pending;
+    }
+
+    private static String validate(UserImportReader.Row row) {
+        if (row.error() != null) return row.error();
+        if (row.email() == null || row.email().indexOf('@') <= 0) return "Geçerli bir email giriniz.";
+        if (row.password() == null || row.password().length() < 6) return "Şifre en az 6 karakter olmalı";
+        if (row.password().getBytes(StandardCharsets.UTF_8).length > 72)
+            return "Password cannot be more than 72 bytes";
+        if (row.role() != null && !ROLES.contains(row.role().toUpperCase(Locale.ROOT))) return "Geçersiz rol";
+        return null;
+    }
+
+    // Hash'leri bekler ve hazır satırları tek transaction'da batch olarak yazar;
+    // batch başarısızsa satır satır dener ki yalnızca hatalı satır raporlansın
+    private void insert(List<Pending> pending, Report report) {
+        List<UserImportReader.Row> ready = new ArrayList<>(pending.size());
+        List<Object[]> args = new ArrayList<>(pending.size());
+        for (Pending p : pending) {
+            try {
+                args.add(toArgs(p.row(), p.hash().get()));
+                ready.add(p.row());
+            } catch (ExecutionException e) {
+                report.fail(p.row(), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Kullanıcı içe aktarımı kesildi", e);
+            }
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER, args));
+            report.created += args.size();
+        } catch (DataAccessException batchError) {
+            log.warn("Kullanıcı batch INSERT başarısız, satır satır deneniyor: {}", batchError.getMessage());
+            for (int i = 0; i < args.size(); i++) {
+                try {
+                    jdbcTemplate.update(INSERT_USER, args.get(i));
+                    report.created++;
+                } catch (DataAccessException e) {
+                    report.fail(ready.get(i), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+    }
+
+    private static Object[] toArgs(UserImportReader.Row row, String passwordHash) {
+        String role = row.role() != null ? row.role().toUpperCase(Locale.ROOT) : "USER";
+        return new Object[]{row.email(), passwordHash, role, row.name(), row.surname(), row.phone()};
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
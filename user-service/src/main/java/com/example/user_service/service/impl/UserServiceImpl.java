@@ -1,5 +1,6 @@
 package com.example.user_service.service.impl;
 
+import com.example.common.config.MetricsConfig;
 import com.example.user_service.dto.request.LoginRequest;
 import com.example.user_service.dto.request.RefreshRequest;
 import com.example.user_service.dto.request.RegisterRequest;
@@ -7,113 +8,94 @@ import com.example.user_service.dto.response.UserResponse;
 import com.example.user_service.entity.UserEntity;
 import com.example.user_service.repository.UserRepository;
 import com.example.user_service.security.jwt.JwtUtil;
+import com.example.user_service.security.jwt.RefreshTokenStore;
+import com.example.user_service.security.password.PasswordHasher;
 import com.example.user_service.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.LocalDateTime;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // register*/login @Transactional değil: BCrypt havuzunda beklerken DB bağlantısı tutulmasın.
+    // Hash transaction dışında üretilir, kayıt kısmı TransactionTemplate ile tek transaction'da yazılır.
     @Override
     public UserResponse registerUser(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail()))
-            throw new IllegalArgumentException("Email zaten kayıtlı: " + request.getEmail());
-        if (request.getPassword().getBytes().length > 72)
-            throw new IllegalArgumentException("Password cannot be more than 72 bytes");
-        UserEntity user = UserEntity.builder()
-                .email(request.getEmail())
-                .name(request.getName())
-                .surname(request.getSurname())
-                .phone(request.getPhone())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .role("USER")
-                .build();
-        userRepository.save(user);
-        return generateTokensAndSave(user);
+        return register(request, "USER");
     }
 
-    @Transactional
     @Override
     public UserResponse registerAdmin(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail()))
-            throw new IllegalArgumentException("Email zaten kayıtlı: " + request.getEmail());
-        if (request.getPassword().getBytes().length > 72)
-            throw new IllegalArgumentException("Password cannot be more than 72 bytes");
-        UserEntity user = UserEntity.builder()
-                .email(request.getEmail())
-                .name(request.getName())
-                .surname(request.getSurname())
-                .phone(request.getPhone())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .role("ADMIN")
-                .build();
-        userRepository.save(user);
-        return generateTokensAndSave(user);
+        return register(request, "ADMIN");
     }
 
-    @Transactional
     @Override
     public UserResponse registerPerson(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail()))
-            throw new IllegalArgumentException("Email zaten kayıtlı: " + request.getEmail());
-        if (request.getPassword().getBytes().length > 72)
-            throw new IllegalArgumentException("Password cannot be more than 72 bytes");
-        UserEntity user = UserEntity.builder()
-                .email(request.getEmail())
-                .name(request.getName())
-                .surname(request.getSurname())
-                .phone(request.getPhone())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .role("PERSON")
-                .build();
-        userRepository.save(user);
-        return generateTokensAndSave(user);
+        return register(request, "PERSON");
     }
 
-    @Transactional
     @Override
     public UserResponse login(LoginRequest request) {
         UserEntity user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı"));
         if (request.getPassword().getBytes().length > 72)
             throw new IllegalArgumentException("Password cannot be more than 72 bytes");
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash()))
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash()))
             throw new IllegalArgumentException("Email veya şifre hatalı");
-        return generateTokensAndSave(user);
+        // BCrypt maliyeti değiştiyse şifre yeni maliyetle yeniden hashlenir (kullanıcı fark etmez)
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(passwordHasher.encode(request.getPassword()));
+            userRepository.save(user);
+        }
+        return issueTokens(user, null);
+    }
+
+    private UserResponse register(RegisterRequest request, String role) {
+        if (userRepository.existsByEmail(request.getEmail()))
+            throw new IllegalArgumentException("Email zaten kayıtlı: " + request.getEmail());
+        if (request.getPassword().getBytes().length > 72)
+            throw new IllegalArgumentException("Password cannot be more than 72 bytes");
+        String passwordHash = passwordHasher.encode(request.getPassword());
+        return transactionTemplate.execute(status -> {
+            if (userRepository.existsByEmail(request.getEmail()))
+                throw new IllegalArgumentException("Email zaten kayıtlı: " + request.getEmail());
+            UserEntity user = UserEntity.builder()
+                    .email(request.getEmail())
+                    .name(request.getName())
+                    .surname(request.getSurname())
+                    .phone(request.getPhone())
+                    .passwordHash(passwordHash)
+                    .role(role)
+                    .build();
+            userRepository.save(user);
+            return issueTokens(user, null);
+        });
     }
 
+    // Refresh token rotasyonu: eski token tüketilir, aynı aileden yenisi üretilir (users satırına yazılmaz)
     @Transactional
     @Override
     public UserResponse refresh(RefreshRequest request) {
-        String token = request.getRefreshToken();
-        if (jwtUtil.isTokenInvalid(token))
-            throw new IllegalArgumentException("Geçersiz veya süresi geçmiş refresh token");
-        String email = jwtUtil.extractEmail(token);
-        UserEntity user = userRepository.findByEmail(email)
+        RefreshTokenStore.RefreshSession session = refreshTokenStore.consume(request.getRefreshToken());
+        UserEntity user = userRepository.findById(session.userId())
                 .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı"));
-        if (user.getRefreshTokenHash() == null || user.getRefreshTokenExpires() == null)
-            throw new IllegalArgumentException("Refresh token kayıtlı değil");
-        if (LocalDateTime.now().isAfter(user.getRefreshTokenExpires()))
-            throw new IllegalArgumentException("Refresh token süresi dolmuş");
-        if (!token.equals(user.getRefreshTokenHash()))
-            throw new IllegalArgumentException("Refresh token eşleşmedi (rotated/invalid)");
-        return generateTokensAndSave(user);
+        return issueTokens(user, session.familyId());
     }
 
-    private UserResponse generateTokensAndSave(UserEntity user) {
+    // Access token + refresh token (refresh_tokens tablosuna) üretir; familyId null ise yeni oturum ailesi
+    private UserResponse issueTokens(UserEntity user, String familyId) {
         String accessToken = jwtUtil.generateAccessToken(user);
-        String refreshToken = jwtUtil.generateRefreshToken(user);
-        user.setRefreshTokenHash(refreshToken);
-        user.setRefreshTokenExpires(LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTtlSeconds()));
-        userRepository.save(user);
+        String refreshToken = refreshTokenStore.issue(user, familyId);
         return UserResponse.builder()
                 .userId(user.getId())
                 .username(user.getEmail())
@@ -0,0 +1,29 @@
+-- Refresh token deposu: users satırı yerine token başına bir satır.
+-- token_digest = refresh token'ın SHA-256 özeti (küçük harf hex); token'ın kendisi saklanmaz.
+-- family_id: login ile başlayan rotasyon zinciri; aynı token ikinci kez kullanılırsa tüm aile iptal edilir.
+CREATE TABLE refresh_tokens(
+                      token_digest CHAR(64) NOT NULL PRIMARY KEY,
+                      family_id CHAR(36) NOT NULL,
+                      user_id BIGINT NOT NULL,
+                      expires_at DATETIME2 NOT NULL,
+                      revoked_at DATETIME2 NULL,
+                      CONSTRAINT FK_refresh_tokens_users
+                          FOREIGN KEY (user_id)
+                              REFERENCES dbo.users(user_id)
+                              ON DELETE CASCADE
+);
+
+CREATE INDEX IX_refresh_tokens_family ON refresh_tokens(family_id);
+CREATE INDEX IX_refresh_tokens_expires ON refresh_tokens(expires_at);
+
+-- Mevcut oturumları taşı (token ASCII olduğundan VARCHAR dönüşümü UTF-8 baytlarıyla aynıdır)
+INSERT INTO refresh_tokens(token_digest, family_id, user_id, expires_at)
+SELECT LOWER(CONVERT(CHAR(64), HASHBYTES('SHA2_256', CAST(refresh_token_hash AS VARCHAR(MAX))), 2)),
+       CONVERT(CHAR(36), NEWID()),
+       user_id,
+       refresh_token_expires_at
+FROM users
+WHERE refresh_token_hash IS NOT NULL
+  AND refresh_token_expires_at > SYSDATETIME();
+
+ALTER TABLE users DROP COLUMN refresh_token_hash, refresh_token_expires_at;
@@ -0,0 +1,5 @@
+-- Toplu public ticket alan entegrasyon istemcileri için INTEGRATION rolü (ticket-service /api/tickets/public/batch)
+ALTER TABLE users DROP CONSTRAINT CK_users_role;
+
+ALTER TABLE users
+    ADD CONSTRAINT CK_users_role CHECK (role IN ('ADMIN', 'USER', 'PERSON', 'INTEGRATION'));
@@ -0,0 +1,124 @@
+package com.example.user_service.service.impl;
+
+import com.example.user_service.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserImportReaderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void csvColumnsAreMatchedByHeaderInAnyOrder() throws IOException {
+		// Excel'in eklediği BOM başlığın parçası sayılmaz
+		List<UserImportReader.Row> rows = readAll(UserImportService.Format.CSV, "\uFEFF" + """
+				Role,password,EMAIL,name
+				USER,secret1,ayse@example.com,Ayşe
+				,secret2, mehmet@example.com ,
+				""");
+
+		assertThat(rows).hasSize(2);
+		UserImportReader.Row first = rows.getFirst();
+		assertThat(first.line()).isEqualTo(2);
+		assertThat(first.email()).isEqualTo("ayse@example.com");
+		assertThat(first.password()).isEqualTo("secret1");
+		assertThat(first.name()).isEqualTo("Ayşe");
+		assertThat(first.role()).isEqualTo("USER");
+		assertThat(first.surname()).isNull();
+		assertThat(first.error()).isNull();
+
+		UserImportReader.Row second = rows.get(1);
+		assertThat(second.email()).isEqualTo("mehmet@example.com");
+		assertThat(second.role()).isNull();
+		assertThat(second.name()).isNull();
+	}
+
+	@Test
+	void csvQuotedFieldsMayContainCommasQuotesAndLineBreaks() throws IOException {
+		List<UserImportReader.Row> rows = readAll(UserImportService.Format.CSV,
+				"email,password,name,surname\r\n"
+						+ "a@example.com,\"p,\"\"w\",\"Ali\nVeli\",Kaya\r\n"
+						+ "b@example.com,pw,Can,Demir\r\n");
+
+		assertThat(rows).hasSize(2);
+		assertThat(rows.getFirst().password()).isEqualTo("p,\"w");
+		assertThat(rows.getFirst().name()).isEqualTo("Ali\nVeli");
+		assertThat(rows.getFirst().surname()).isEqualTo("Kaya");
+		// Çok satırlı kayıt satır numarasını kaydırır
+		assertThat(rows.get(1).line()).isEqualTo(4);
+		assertThat(rows.get(1).surname()).isEqualTo("Demir");
+	}
+
+	@Test
+	void csvUnclosedQuoteIsReportedOnItsLine() throws IOException {
+		List<UserImportReader.Row> rows = readAll(UserImportService.Format.CSV, """
+				email,password
+				a@example.com,"open
+				""");
+
+		assertThat(rows).singleElement().satisfies(row -> {
+			assertThat(row.line()).isEqualTo(2);
+			assertThat(row.error()).isEqualTo("Kapanmamış tırnak");
+		});
+	}
+
+	@Test
+	void csvHeaderWithoutRequiredColumnsIsRejected() {
+		assertThatThrownBy(() -> readAll(UserImportService.Format.CSV, "email,name\na@example.com,Ali\n"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("email ve password");
+	}
+
+	@Test
+	void ndjsonRowsAreReadAndInvalidLinesKeptWithError() throws IOException {
+		List<UserImportReader.Row> rows = readAll(UserImportService.Format.NDJSON, """
+				{"email":"a@example.com","password":"pw","name":" Ali ","phone":null}
+
+				{"email":"b@example.com",
+				[1,2]
+				""");
+
+		assertThat(rows).hasSize(3);
+		assertThat(rows.getFirst().email()).isEqualTo("a@example.com");
+		assertThat(rows.getFirst().name()).isEqualTo("Ali");
+		assertThat(rows.getFirst().phone()).isNull();
+
+		// Boş satır atlanır ama sayılır
+		assertThat(rows.get(1).line()).isEqualTo(3);
+		assertThat(rows.get(1).error()).startsWith("Geçersiz JSON");
+		assertThat(rows.get(2).line()).isEqualTo(4);
+		assertThat(rows.get(2).error()).isEqualTo("JSON nesnesi bekleniyor");
+	}
+
+	@Test
+	void rowsAreReturnedInChunks() throws IOException {
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < 5; i++) {
+			ndjson.append("{\"email\":\"u").append(i).append("@example.com\",\"password\":\"pw\"}\n");
+		}
+		try (UserImportReader reader = reader(UserImportService.Format.NDJSON, ndjson.toString())) {
+			assertThat(reader.next(2)).hasSize(2);
+			assertThat(reader.next(2)).hasSize(2);
+			assertThat(reader.next(2)).extracting(UserImportReader.Row::email).containsExactly("u4@example.com");
+			assertThat(reader.next(2)).isEmpty();
+		}
+	}
+
+	private UserImportReader reader(UserImportService.Format format, String body) {
+		return new UserImportReader(format, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), objectMapper);
+	}
+
+	private List<UserImportReader.Row> readAll(UserImportService.Format format, String body) throws IOException {
+		try (UserImportReader reader = reader(format, body)) {
+			return reader.next(100);
+		}
+	}
+}